@@ -0,0 +1,48 @@
+package org.example.cloudservice.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileListSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private List<FileDto> files;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+        files = IntStream.range(0, listSize)
+                .mapToObj(i -> FileDto.builder()
+                        .fileName("file-" + i + ".txt")
+                        .hash(String.format("%064x", i))
+                        .size(1024L * i)
+                        .type("text/plain")
+                        .date(now)
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] writeFileList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(files);
+    }
+}
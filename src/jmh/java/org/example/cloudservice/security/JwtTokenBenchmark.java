@@ -0,0 +1,75 @@
+package org.example.cloudservice.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.cloudservice.config.JwtTokenConfig;
+import org.example.cloudservice.entity.UserEntity;
+import org.example.cloudservice.entity.UserRoles;
+import org.example.cloudservice.service.RevocationService;
+import org.example.cloudservice.util.JwtTokenUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenBenchmark {
+    private static final String SECRET =
+            "zL1HB3Pch05Avfynovxrf/kpF9O2m4NCWKJUjEp27s9J2jEG3ifiKCGylaZ8fDeoONSTJP/wAzKawB8F9rOMNg==";
+
+    @Param({"0", "10000"})
+    private int cacheSize;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        JwtTokenConfig jwtTokenConfig = new JwtTokenConfig(SECRET);
+        ReflectionTestUtils.setField(jwtTokenConfig, "expiration", 60);
+        ReflectionTestUtils.setField(jwtTokenConfig, "cacheSize", cacheSize);
+        jwtTokenProvider = new JwtTokenProvider(jwtTokenConfig, new NoRevocationService(), new SimpleMeterRegistry());
+
+        UserEntity user = UserEntity.builder()
+                .id(1L)
+                .login("user@example.org")
+                .roles(Set.of(UserRoles.ROLE_USER))
+                .build();
+        token = jwtTokenProvider.generateAuthToken(user);
+        claims = jwtTokenProvider.getAccessClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateAuthToken() {
+        return jwtTokenProvider.validateAuthToken(token);
+    }
+
+    @Benchmark
+    public Claims getAccessClaims() {
+        return jwtTokenProvider.getAccessClaims(token);
+    }
+
+    @Benchmark
+    public JwtTokenAuth generate() {
+        return JwtTokenUtil.generate(claims);
+    }
+
+    private static class NoRevocationService implements RevocationService {
+        @Override
+        public void revoke(String jti, Date expiration) {
+        }
+
+        @Override
+        public boolean isRevoked(String jti) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.cloudservice.service.Impl;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileHashBenchmark {
+    @Param({"1024", "1048576", "16777216"})
+    private int size;
+
+    private byte[] content;
+    private Timer hashTimer;
+
+    @Setup
+    public void setUp() {
+        hashTimer = Timer.builder("cloud.hash").register(new SimpleMeterRegistry());
+        content = new byte[size];
+        new Random(42).nextBytes(content);
+    }
+
+    @Benchmark
+    public String calculateFileHash() throws IOException {
+        return CloudServiceImpl.calculateFileHash(new ByteArrayInputStream(content), OutputStream.nullOutputStream(),
+                hashTimer);
+    }
+}
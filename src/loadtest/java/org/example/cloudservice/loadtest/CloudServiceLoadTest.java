@@ -0,0 +1,208 @@
+package org.example.cloudservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.entity.UserEntity;
+import org.example.cloudservice.entity.UserRoles;
+import org.example.cloudservice.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false")
+class CloudServiceLoadTest {
+    private static final String PASSWORD = "loadtest";
+
+    private final int users = Integer.getInteger("loadtest.users", 16);
+    private final int filesPerUser = Integer.getInteger("loadtest.files-per-user", 20);
+    private final int fileSize = Integer.getInteger("loadtest.file-size", 64 * 1024);
+    private final int listLimit = Integer.getInteger("loadtest.list-limit", 100);
+    private final Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private final Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+    private final String mix = System.getProperty("loadtest.mix", "LOGIN:1,UPLOAD:1,DOWNLOAD:6,LIST:2");
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+    private final Path reportFile = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    PasswordEncoder passwordEncoder;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres")
+            .withExposedPorts(5432);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("rate-limit.enabled", () -> false);
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        LoadTestClient client = new LoadTestClient(httpClient, objectMapper, "http://localhost:" + port, recorder);
+        List<Endpoint> workload = parseMix(mix);
+        List<String> logins = seedUsers();
+
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(users);
+        try {
+            List<VirtualUser> seeded = new ArrayList<>();
+            for (Future<VirtualUser> future : virtualUsers.invokeAll(logins.stream()
+                    .map(login -> (Callable<VirtualUser>) () -> seed(client, login))
+                    .toList())) {
+                seeded.add(future.get());
+            }
+
+            long warmupEnd = System.nanoTime() + warmup.toNanos();
+            long end = warmupEnd + duration.toNanos();
+            List<Future<Void>> running = seeded.stream()
+                    .map(user -> virtualUsers.submit(() -> user.run(client, workload, end)))
+                    .toList();
+            TimeUnit.NANOSECONDS.sleep(warmupEnd - System.nanoTime());
+            recorder.start();
+            for (Future<Void> future : running) {
+                future.get();
+            }
+            recorder.stop();
+        } finally {
+            virtualUsers.shutdownNow();
+        }
+
+        Map<Endpoint, LatencyRecorder.EndpointReport> endpoints = new EnumMap<>(Endpoint.class);
+        double seconds = duration.toNanos() / 1e9;
+        for (Endpoint endpoint : new LinkedHashSet<>(workload)) {
+            LatencyRecorder.EndpointReport report = recorder.report(endpoint, seconds);
+            endpoints.put(endpoint, report);
+            log.info("{}: {}", endpoint, report);
+        }
+        writeReport(new LoadTestReport(users, filesPerUser, fileSize, mix, seconds, endpoints));
+
+        endpoints.forEach((endpoint, report) -> {
+            assertTrue(report.requests() > 0, endpoint + " was not exercised");
+            assertTrue(report.errors() <= report.requests() * maxErrorRate,
+                    endpoint + " error rate is above " + maxErrorRate + ": " + report);
+        });
+    }
+
+    private List<String> seedUsers() {
+        String password = passwordEncoder.encode(PASSWORD);
+        List<UserEntity> entities = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            entities.add(UserEntity.builder()
+                    .login("loadtest-" + i + "@example.org")
+                    .password(password)
+                    .roles(Set.of(UserRoles.ROLE_USER))
+                    .build());
+        }
+        return userRepository.saveAll(entities).stream()
+                .map(UserEntity::getLogin)
+                .toList();
+    }
+
+    private VirtualUser seed(LoadTestClient client, String login) throws Exception {
+        VirtualUser user = new VirtualUser(login, client.login(login, PASSWORD), randomContent());
+        for (int i = 0; i < filesPerUser; i++) {
+            String fileName = user.nextFileName();
+            if (!client.upload(user.token, fileName, user.content)) {
+                throw new IllegalStateException("Failed to seed " + fileName + " for " + login);
+            }
+            user.files.add(fileName);
+        }
+        return user;
+    }
+
+    private byte[] randomContent() {
+        byte[] content = new byte[fileSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        return content;
+    }
+
+    private void writeReport(LoadTestReport report) throws Exception {
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportFile.toFile(), report);
+        log.info("Load test report written to {}", reportFile.toAbsolutePath());
+    }
+
+    private static List<Endpoint> parseMix(String mix) {
+        List<Endpoint> workload = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] weight = entry.trim().split(":");
+            Endpoint endpoint = Endpoint.valueOf(weight[0].trim().toUpperCase());
+            workload.addAll(Collections.nCopies(Integer.parseInt(weight[1].trim()), endpoint));
+        }
+        return workload;
+    }
+
+    private class VirtualUser {
+        private final String login;
+        private final byte[] content;
+        private final List<String> files = new ArrayList<>();
+        private final AtomicInteger counter = new AtomicInteger();
+        private String token;
+
+        private VirtualUser(String login, String token, byte[] content) {
+            this.login = login;
+            this.token = token;
+            this.content = content;
+        }
+
+        private Void run(LoadTestClient client, List<Endpoint> workload, long end) throws Exception {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < end) {
+                switch (workload.get(random.nextInt(workload.size()))) {
+                    case LOGIN -> token = client.login(login, PASSWORD);
+                    case UPLOAD -> {
+                        String fileName = nextFileName();
+                        if (client.upload(token, fileName, content)) {
+                            files.add(fileName);
+                        }
+                    }
+                    case DOWNLOAD -> client.download(token, files.get(random.nextInt(files.size())));
+                    case LIST -> client.list(token, listLimit);
+                }
+            }
+            return null;
+        }
+
+        private String nextFileName() {
+            return login + "-" + counter.incrementAndGet() + ".bin";
+        }
+    }
+
+    record LoadTestReport(int users, int filesPerUser, int fileSize, String mix, double durationSeconds,
+                          Map<Endpoint, LatencyRecorder.EndpointReport> endpoints) {
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.cloudservice.loadtest;
+
+public enum Endpoint {
+    LOGIN,
+    UPLOAD,
+    DOWNLOAD,
+    LIST
+}
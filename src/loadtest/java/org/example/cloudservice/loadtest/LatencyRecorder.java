@@ -0,0 +1,71 @@
+package org.example.cloudservice.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+    private final Map<Endpoint, Queue<Long>> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private volatile boolean recording;
+
+    public LatencyRecorder() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new ConcurrentLinkedQueue<>());
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public void start() {
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+    }
+
+    public void record(Endpoint endpoint, long nanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        latencies.get(endpoint).add(nanos);
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    public EndpointReport report(Endpoint endpoint, double seconds) {
+        long[] sorted = latencies.get(endpoint).stream().mapToLong(Long::longValue).sorted().toArray();
+        return new EndpointReport(
+                sorted.length,
+                errors.get(endpoint).sum(),
+                sorted.length / seconds,
+                percentile(sorted, 50),
+                percentile(sorted, 95),
+                percentile(sorted, 99),
+                sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return toMillis(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public record EndpointReport(long requests, long errors, double throughput,
+                                 double p50, double p95, double p99, double max) {
+        @Override
+        public String toString() {
+            return String.format("requests=%d errors=%d throughput=%.1f/s p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                    requests, errors, throughput, p50, p95, p99, max);
+        }
+    }
+}
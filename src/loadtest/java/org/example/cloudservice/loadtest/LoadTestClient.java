@@ -0,0 +1,97 @@
+package org.example.cloudservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.cloudservice.dto.TokenDto;
+import org.example.cloudservice.dto.UserDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+public class LoadTestClient {
+    private static final String AUTH_TOKEN_HEADER = "auth-token";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+
+    public LoadTestClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, LatencyRecorder recorder) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    public String login(String login, String password) throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(UserDto.builder().login(login).password(password).build());
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        HttpResponse<byte[]> response = send(Endpoint.LOGIN, request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + login + ": " + response.statusCode());
+        }
+        return objectMapper.readValue(response.body(), TokenDto.class).authToken();
+    }
+
+    public boolean upload(String token, String fileName, byte[] content) throws IOException, InterruptedException {
+        String boundary = UUID.randomUUID().toString();
+        HttpRequest request = HttpRequest.newBuilder(fileUri(fileName))
+                .header(AUTH_TOKEN_HEADER, "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(boundary, fileName, content)))
+                .build();
+        return send(Endpoint.UPLOAD, request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    public boolean download(String token, String fileName) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(fileUri(fileName))
+                .header(AUTH_TOKEN_HEADER, "Bearer " + token)
+                .GET()
+                .build();
+        return send(Endpoint.DOWNLOAD, request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    public boolean list(String token, int limit) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/cloud/list?limit=" + limit))
+                .header(AUTH_TOKEN_HEADER, "Bearer " + token)
+                .GET()
+                .build();
+        return send(Endpoint.LIST, request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private <T> HttpResponse<T> send(Endpoint endpoint, HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<T> response = httpClient.send(request, handler);
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            throw e;
+        }
+    }
+
+    private URI fileUri(String fileName) {
+        return URI.create(baseUrl + "/cloud/file?filename=" + URLEncoder.encode(fileName, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] multipart(String boundary, String fileName, byte[] content) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.cloudservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.entity.UserEntity;
+import org.example.cloudservice.entity.UserRoles;
+import org.example.cloudservice.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false")
+class SlowDownloadLoadTest {
+    private static final String LOGIN = "slow-download@example.org";
+    private static final String PASSWORD = "loadtest";
+    private static final String FILE_NAME = "slow-download.bin";
+
+    private final int connections = Integer.getInteger("loadtest.slow.connections", 400);
+    private final int fileSize = Integer.getInteger("loadtest.slow.file-size", 16 * 1024 * 1024);
+    private final Duration timeout = Duration.parse(System.getProperty("loadtest.slow.timeout", "PT30S"));
+    private final Path reportFile = Path.of(System.getProperty("loadtest.slow.report",
+            "target/slow-download-report.json"));
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    PasswordEncoder passwordEncoder;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    Environment environment;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres")
+            .withExposedPorts(5432);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("rate-limit.enabled", () -> false);
+    }
+
+    @Test
+    void concurrentSlowDownloads() throws Exception {
+        userRepository.save(UserEntity.builder()
+                .login(LOGIN)
+                .password(passwordEncoder.encode(PASSWORD))
+                .roles(Set.of(UserRoles.ROLE_USER))
+                .build());
+        LoadTestClient client = new LoadTestClient(HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+                objectMapper, "http://localhost:" + port, new LatencyRecorder());
+        String token = client.login(LOGIN, PASSWORD);
+        byte[] content = new byte[fileSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        assertTrue(client.upload(token, FILE_NAME, content), "Failed to seed " + FILE_NAME);
+
+        List<Socket> sockets = new ArrayList<>();
+        int started = 0;
+        long begin = System.nanoTime();
+        try {
+            for (int i = 0; i < connections; i++) {
+                sockets.add(openSlowDownload(token));
+            }
+            long deadline = begin + timeout.toNanos();
+            for (Socket socket : sockets) {
+                if (awaitStatusLine(socket, deadline)) {
+                    started++;
+                }
+            }
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+
+        SlowDownloadReport report = new SlowDownloadReport(
+                environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false),
+                Runtime.version().feature(), connections, fileSize, timeout.toMillis(), started);
+        log.info("Slow downloads: {}", report);
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportFile.toFile(), report);
+
+        assertTrue(started > 0, "No download was started");
+    }
+
+    private Socket openSlowDownload(String token) throws IOException {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("localhost", port));
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /cloud/file?filename=" + FILE_NAME + " HTTP/1.1\r\n"
+                + "Host: localhost:" + port + "\r\n"
+                + "auth-token: Bearer " + token + "\r\n"
+                + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    private boolean awaitStatusLine(Socket socket, long deadline) throws IOException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return socket.getInputStream().available() > 0 && readStatusLine(socket.getInputStream());
+        }
+        socket.setSoTimeout((int) Math.max(1, Duration.ofNanos(remaining).toMillis()));
+        try {
+            return readStatusLine(socket.getInputStream());
+        } catch (SocketTimeoutException e) {
+            return false;
+        }
+    }
+
+    private static boolean readStatusLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            line.append((char) b);
+        }
+        return line.toString().startsWith("HTTP/1.1 200");
+    }
+
+    record SlowDownloadReport(boolean virtualThreads, int javaVersion, int connections, int fileSize,
+                              long timeoutMillis, int started) {
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.cloudservice.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+    private final boolean enabled;
+    private final double successSampleRate;
+    private final int errorLimit;
+    private final Duration errorLimitPeriod;
+}
@@ -0,0 +1,18 @@
+package org.example.cloudservice.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "upload.compression")
+public class CompressionProperties {
+    private final boolean enabled;
+    private final List<String> types;
+    private final long minSize;
+    private final int probeSize;
+    private final double maxRatio;
+}
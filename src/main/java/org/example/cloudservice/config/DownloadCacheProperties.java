@@ -0,0 +1,15 @@
+package org.example.cloudservice.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "download.cache")
+public class DownloadCacheProperties {
+    private final boolean enabled;
+    private final DataSize maxSize;
+    private final DataSize maxEntrySize;
+}
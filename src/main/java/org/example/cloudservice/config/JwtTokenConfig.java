@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 
 @Getter
 @Configuration
@@ -14,6 +15,10 @@ public class JwtTokenConfig {
     private final SecretKey secret;
     @Value("${jwt.expiration}")
     private int expiration;
+    @Value("${jwt.cache-size}")
+    private int cacheSize;
+    @Value("${jwt.refresh.expiration}")
+    private Duration refreshExpiration;
 
     public JwtTokenConfig(@Value("${jwt.secret}") String secret) {
         this.secret = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
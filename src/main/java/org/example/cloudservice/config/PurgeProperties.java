@@ -0,0 +1,17 @@
+package org.example.cloudservice.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "purge")
+public class PurgeProperties {
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration batchDelay;
+}
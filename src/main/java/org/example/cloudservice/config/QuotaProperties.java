@@ -0,0 +1,13 @@
+package org.example.cloudservice.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "storage.quota")
+public class QuotaProperties {
+    private final DataSize defaultSize;
+}
@@ -0,0 +1,21 @@
+package org.example.cloudservice.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private final boolean enabled;
+    private final long maxBuckets;
+    private final Duration idleTimeout;
+    private final Map<String, Rule> rules;
+
+    public record Rule(String path, int capacity, Duration period) {
+    }
+}
@@ -1,8 +1,14 @@
 package org.example.cloudservice.config;
 
-import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.entity.UserRoles;
+import org.example.cloudservice.logging.AccessLogFilter;
 import org.example.cloudservice.security.JwtTokenFilter;
+import org.example.cloudservice.security.RateLimitFilter;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementServerProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -23,9 +29,14 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 @RequiredArgsConstructor
 public class SecurityConfig {
     public static final String LOGIN_URL = "/login";
-    public static final String LOGOUT_URL = "/logout";
+    public static final String REFRESH_URL = "/refresh/**";
+    public static final String ACTUATOR_URL = "/actuator/**";
 
     private final JwtTokenFilter jwtTokenFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final AccessLogFilter accessLogFilter;
+    private final ServerProperties serverProperties;
+    private final ManagementServerProperties managementServerProperties;
 
     @Bean
     protected SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -34,24 +45,48 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(LOGIN_URL).permitAll()
+                        .requestMatchers(REFRESH_URL).permitAll()
+                        .requestMatchers(this::isManagementPortRequest).permitAll()
+                        .requestMatchers(ACTUATOR_URL).hasAuthority(UserRoles.ROLE_ADMIN.getAuthority())
                         .anyRequest()
                         .authenticated()
                 )
-                .logout(logout -> logout
-                        .logoutUrl(LOGOUT_URL)
-                        .deleteCookies("JSESSIONID")
-                        .clearAuthentication(true)
-                        .invalidateHttpSession(true)
-                        .logoutSuccessHandler((request, response, authentication) -> {
-                            response.setStatus(HttpServletResponse.SC_OK);
-                        })
-                )
+                .logout(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
                 .addFilterBefore(jwtTokenFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(accessLogFilter, JwtTokenFilter.class)
+                .addFilterAfter(rateLimitFilter, AccessLogFilter.class)
                 .exceptionHandling(exp -> exp.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .build();
     }
 
+    private boolean isManagementPortRequest(HttpServletRequest request) {
+        Integer managementPort = managementServerProperties.getPort();
+        return managementPort != null && managementPort > 0 && !managementPort.equals(serverProperties.getPort())
+                && request.getLocalPort() == managementPort;
+    }
+
+    @Bean
+    public FilterRegistrationBean<JwtTokenFilter> jwtTokenFilterRegistration() {
+        FilterRegistrationBean<JwtTokenFilter> registration = new FilterRegistrationBean<>(jwtTokenFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilterRegistration() {
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(accessLogFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -0,0 +1,17 @@
+package org.example.cloudservice.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "upload.admission")
+public class UploadAdmissionProperties {
+    private final boolean enabled;
+    private final DataSize maxInFlight;
+    private final Duration maxWait;
+}
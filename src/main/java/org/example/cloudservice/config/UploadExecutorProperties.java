@@ -0,0 +1,15 @@
+package org.example.cloudservice.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "upload.async")
+public class UploadExecutorProperties {
+    private final boolean enabled;
+    private final int hashPoolSize;
+    private final int storePoolSize;
+    private final int queueCapacity;
+}
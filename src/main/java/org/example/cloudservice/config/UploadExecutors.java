@@ -0,0 +1,64 @@
+package org.example.cloudservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+@Component
+public class UploadExecutors implements DisposableBean {
+    private final ThreadPoolTaskExecutor hashPool;
+    private final ThreadPoolTaskExecutor storePool;
+    private final Executor hashExecutor;
+    private final Executor storeExecutor;
+
+    public UploadExecutors(UploadExecutorProperties properties, MeterRegistry meterRegistry, Environment environment) {
+        hashPool = createPool("upload-hash-", properties.getHashPoolSize(), properties.getQueueCapacity());
+        storePool = createPool("upload-store-", properties.getStorePoolSize(), properties.getQueueCapacity());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            storePool.setThreadFactory(new VirtualThreadTaskExecutor("upload-store-").getVirtualThreadFactory());
+        }
+        hashPool.initialize();
+        storePool.initialize();
+
+        new ExecutorServiceMetrics(hashPool.getThreadPoolExecutor(), "upload.hash", Tags.empty())
+                .bindTo(meterRegistry);
+        new ExecutorServiceMetrics(storePool.getThreadPoolExecutor(), "upload.store", Tags.empty())
+                .bindTo(meterRegistry);
+
+        hashExecutor = new DelegatingSecurityContextExecutor(hashPool);
+        storeExecutor = new DelegatingSecurityContextExecutor(storePool);
+    }
+
+    public Executor hashExecutor() {
+        return hashExecutor;
+    }
+
+    public Executor storeExecutor() {
+        return storeExecutor;
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdown();
+        storePool.shutdown();
+    }
+
+    private static ThreadPoolTaskExecutor createPool(String threadNamePrefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setThreadNamePrefix(threadNamePrefix);
+        pool.setCorePoolSize(poolSize);
+        pool.setMaxPoolSize(poolSize);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setWaitForTasksToCompleteOnShutdown(true);
+        return pool;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.cloudservice.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "upload.session")
+public class UploadSessionProperties {
+    private final Duration expiration;
+    private final int maxChunks;
+    private final int cleanupBatchSize;
+}
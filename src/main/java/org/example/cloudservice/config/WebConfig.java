@@ -1,18 +1,44 @@
 package org.example.cloudservice.config;
 
-import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.handler.QuotaInterceptor;
+import org.example.cloudservice.handler.UploadAdmissionInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @EnableWebMvc
-@RequiredArgsConstructor
-@EnableConfigurationProperties(CorsProperties.class)
+@EnableConfigurationProperties({WebMvcProperties.class, CorsProperties.class, UploadSessionProperties.class,
+        UploadExecutorProperties.class, CompressionProperties.class, DownloadCacheProperties.class,
+        PurgeProperties.class, QuotaProperties.class, RateLimitProperties.class,
+        UploadAdmissionProperties.class, AccessLogProperties.class})
 public class WebConfig implements WebMvcConfigurer {
+    private static final String[] UPLOAD_PATHS = {"/cloud/file", "/cloud/files", "/cloud/upload/*/chunk/*"};
+
     private final CorsProperties corsProperties;
+    private final QuotaInterceptor quotaInterceptor;
+    private final UploadAdmissionInterceptor uploadAdmissionInterceptor;
+    private final WebMvcProperties webMvcProperties;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    public WebConfig(CorsProperties corsProperties, QuotaInterceptor quotaInterceptor,
+                     UploadAdmissionInterceptor uploadAdmissionInterceptor, WebMvcProperties webMvcProperties,
+                     @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                     AsyncTaskExecutor applicationTaskExecutor) {
+        this.corsProperties = corsProperties;
+        this.quotaInterceptor = quotaInterceptor;
+        this.uploadAdmissionInterceptor = uploadAdmissionInterceptor;
+        this.webMvcProperties = webMvcProperties;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+    }
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -22,4 +48,20 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods(corsProperties.getAllowedMethods())
                 .allowedHeaders(corsProperties.getAllowedHeaders());
     }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(applicationTaskExecutor);
+        if (webMvcProperties.getAsync().getRequestTimeout() != null) {
+            configurer.setDefaultTimeout(webMvcProperties.getAsync().getRequestTimeout().toMillis());
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(quotaInterceptor)
+                .addPathPatterns(UPLOAD_PATHS);
+        registry.addInterceptor(uploadAdmissionInterceptor)
+                .addPathPatterns(UPLOAD_PATHS);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package org.example.cloudservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.dto.StorageUsageDto;
+import org.example.cloudservice.service.Impl.QuotaServiceImpl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin")
+@PreAuthorize("hasAuthority('ROLE_ADMIN')")
+@RequiredArgsConstructor
+public class AdminRestController {
+    private final QuotaServiceImpl quotaService;
+
+    @GetMapping("storage")
+    public ResponseEntity<List<StorageUsageDto>> handleGetStorageUsage() {
+        return ResponseEntity.ok(quotaService.getUsage());
+    }
+}
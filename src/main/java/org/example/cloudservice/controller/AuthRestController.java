@@ -3,6 +3,7 @@ package org.example.cloudservice.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.dto.RefreshTokenDto;
 import org.example.cloudservice.dto.TokenDto;
 import org.example.cloudservice.dto.UserDto;
 import org.example.cloudservice.service.Impl.AuthServiceImpl;
@@ -22,6 +23,17 @@ public class AuthRestController {
         return ResponseEntity.ok(authService.login(user));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenDto> refresh(@RequestBody RefreshTokenDto refreshToken) {
+        return ResponseEntity.ok(authService.refresh(refreshToken.refreshToken()));
+    }
+
+    @PostMapping("/refresh/revoke")
+    public ResponseEntity<Void> revoke(@RequestBody RefreshTokenDto refreshToken) {
+        authService.revoke(refreshToken.refreshToken());
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(@RequestHeader("auth-token") String authToken,
                                     HttpServletRequest request, HttpServletResponse response) {
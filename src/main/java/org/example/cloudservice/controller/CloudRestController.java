@@ -1,19 +1,35 @@
 package org.example.cloudservice.controller;
 
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.dto.BatchResultDto;
 import org.example.cloudservice.dto.FileDto;
+import org.example.cloudservice.dto.FileSearchCriteria;
+import org.example.cloudservice.dto.RenameDto;
+import org.example.cloudservice.entity.ContentCodec;
+import org.example.cloudservice.service.Impl.AsyncUploadServiceImpl;
 import org.example.cloudservice.service.Impl.CloudServiceImpl;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -21,13 +37,16 @@ import java.util.List;
 @PreAuthorize("hasAuthority('ROLE_USER')")
 @RequiredArgsConstructor
 public class CloudRestController {
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final CloudServiceImpl fileService;
+    private final AsyncUploadServiceImpl asyncUploadService;
 
     @PostMapping("file")
-    public ResponseEntity<Void> handleUploadFile(@RequestParam("filename") String fileName,
-                                                 @NotNull @RequestPart("file") MultipartFile file) {
-        fileService.uploadFile(fileName, file);
-        return ResponseEntity.ok().build();
+    public CompletableFuture<ResponseEntity<Void>> handleUploadFile(@RequestParam("filename") String fileName,
+                                                                    @NotNull @RequestPart("file") MultipartFile file) {
+        return asyncUploadService.uploadFile(fileName, file)
+                .thenApply(ignored -> ResponseEntity.ok().build());
     }
 
     @DeleteMapping("file")
@@ -37,13 +56,113 @@ public class CloudRestController {
     }
 
     @GetMapping("file")
-    @ResponseBody
-    public ResponseEntity<byte[]> handleDownloadFile(@RequestParam String filename) {
+    public ResponseEntity<StreamingResponseBody> handleDownloadFile(@RequestParam String filename,
+                                                                    @RequestHeader HttpHeaders headers,
+                                                                    WebRequest webRequest) {
         FileDto file = fileService.downloadFile(filename);
+        long size = file.size();
+
+        HttpRange range = matchesIfRange(headers, file) ? getSingleRange(headers) : null;
+        boolean encoded = range == null && file.codec() == ContentCodec.GZIP && acceptsGzip(headers);
+        String eTag = getETag(file, encoded);
+        long lastModified = getLastModified(file);
+        if (failsPrecondition(headers, eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(eTag).build();
+        }
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        if (range == null) {
+            return encoded ? streamStoredFile(file) : streamFile(ResponseEntity.ok(), file, 0, size);
+        }
+
+        long start = range.getRangeStart(size);
+        long end = range.getRangeEnd(size);
+        if (start >= size || start > end) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+        }
+        return streamFile(ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size),
+                file, start, end - start + 1);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamFile(ResponseEntity.BodyBuilder response, FileDto file,
+                                                             long offset, long length) {
+        StreamingResponseBody body = out -> fileService.transferFile(file.fileName(), offset, length, out);
+        if (file.codec() == ContentCodec.GZIP) {
+            response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        }
+        return response
+                .contentType(MediaType.parseMediaType(file.type()))
+                .contentLength(length)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.fileName() + "\"")
+                .body(body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamStoredFile(FileDto file) {
+        StreamingResponseBody body = out -> fileService.transferStoredFile(file.fileName(), out);
         return ResponseEntity.ok()
                 .contentType(MediaType.parseMediaType(file.type()))
+                .contentLength(file.storedSize())
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.fileName() + "\"")
-                .body(file.fileBytes());
+                .body(body);
+    }
+
+    private String getETag(FileDto file, boolean encoded) {
+        return "\"" + file.hash() + (encoded ? "-gzip" : "") + "\"";
+    }
+
+    private long getLastModified(FileDto file) {
+        return file.date().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private boolean failsPrecondition(HttpHeaders headers, String eTag, long lastModified) {
+        List<String> ifMatch = headers.getValuesAsList(HttpHeaders.IF_MATCH);
+        if (!ifMatch.isEmpty()) {
+            return ifMatch.stream().noneMatch(tag -> tag.equals("*") || tag.equals(eTag));
+        }
+        long ifUnmodifiedSince = headers.getIfUnmodifiedSince();
+        return ifUnmodifiedSince != -1 && lastModified / 1000 * 1000 > ifUnmodifiedSince;
+    }
+
+    private boolean matchesIfRange(HttpHeaders headers, FileDto file) {
+        String ifRange = headers.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(getETag(file, false));
+        }
+        try {
+            return headers.getFirstDate(HttpHeaders.IF_RANGE) == getLastModified(file) / 1000 * 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean acceptsGzip(HttpHeaders headers) {
+        return headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(coding -> coding.trim().toLowerCase().split("\\s*;\\s*"))
+                .anyMatch(coding -> coding[0].equals("gzip")
+                        && Arrays.stream(coding).skip(1).noneMatch(param -> param.matches("q=0(\\.0*)?")));
+    }
+
+    private HttpRange getSingleRange(HttpHeaders headers) {
+        try {
+            List<HttpRange> ranges = headers.getRange();
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring invalid Range header: {}", headers.getFirst(HttpHeaders.RANGE));
+            return null;
+        }
     }
 
     @PutMapping("file")
@@ -52,8 +171,50 @@ public class CloudRestController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("files")
+    public ResponseEntity<List<BatchResultDto>> handleUploadFiles(
+            @NotEmpty @Size(max = MAX_BATCH_SIZE) @RequestPart("file") List<MultipartFile> files) {
+        return ResponseEntity.ok(fileService.uploadFiles(files));
+    }
+
+    @PostMapping("files/delete")
+    public ResponseEntity<List<BatchResultDto>> handleDeleteFiles(
+            @NotEmpty @Size(max = MAX_BATCH_SIZE) @RequestBody List<String> fileNames) {
+        return ResponseEntity.ok(fileService.deleteFiles(fileNames));
+    }
+
+    @PostMapping("files/rename")
+    public ResponseEntity<List<BatchResultDto>> handleRenameFiles(
+            @NotEmpty @Size(max = MAX_BATCH_SIZE) @RequestBody List<RenameDto> renames) {
+        return ResponseEntity.ok(fileService.renameFiles(renames));
+    }
+
     @GetMapping("list")
-    public ResponseEntity<List<FileDto>> handleGetFileList(@Min(0) @RequestParam int limit) {
-        return ResponseEntity.ok(fileService.getFileList(limit));
+    public ResponseEntity<List<FileDto>> handleGetFileList(@Min(0) @RequestParam int limit,
+                                                           @RequestParam(defaultValue = "") String after) {
+        return ResponseEntity.ok(fileService.getFileList(limit, after));
+    }
+
+    @GetMapping("search")
+    public ResponseEntity<List<FileDto>> handleSearchFiles(
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "false") boolean prefix,
+            @RequestParam(required = false) String type,
+            @Min(0) @RequestParam(name = "min_size", required = false) Long minSize,
+            @Min(0) @RequestParam(name = "max_size", required = false) Long maxSize,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @RequestParam(required = false) LocalDateTime from,
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @RequestParam(required = false) LocalDateTime to,
+            @Min(0) @RequestParam int limit,
+            @RequestParam(defaultValue = "") String after) {
+        FileSearchCriteria criteria = FileSearchCriteria.builder()
+                .name(name)
+                .prefix(prefix)
+                .type(type)
+                .minSize(minSize)
+                .maxSize(maxSize)
+                .from(from)
+                .to(to)
+                .build();
+        return ResponseEntity.ok(fileService.searchFiles(criteria, limit, after));
     }
 }
@@ -0,0 +1,54 @@
+package org.example.cloudservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.dto.UploadSessionDto;
+import org.example.cloudservice.service.Impl.UploadSessionServiceImpl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/cloud/upload")
+@PreAuthorize("hasAuthority('ROLE_USER')")
+@RequiredArgsConstructor
+public class UploadSessionRestController {
+    public static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-Checksum";
+
+    private final UploadSessionServiceImpl uploadSessionService;
+
+    @PostMapping
+    public ResponseEntity<UploadSessionDto> handleCreateSession(
+            @RequestParam("filename") String fileName, @RequestParam long size, @RequestParam int chunks,
+            @RequestParam(defaultValue = MediaType.APPLICATION_OCTET_STREAM_VALUE) String type) {
+        return ResponseEntity.ok(uploadSessionService.createSession(fileName, type, size, chunks));
+    }
+
+    @GetMapping("{id}")
+    public ResponseEntity<UploadSessionDto> handleGetSession(@PathVariable UUID id) {
+        return ResponseEntity.ok(uploadSessionService.getSession(id));
+    }
+
+    @PutMapping("{id}/chunk/{number}")
+    public ResponseEntity<Void> handleUploadChunk(@PathVariable UUID id, @PathVariable int number,
+                                                  @RequestHeader(CHUNK_CHECKSUM_HEADER) String checksum,
+                                                  InputStream content) {
+        uploadSessionService.uploadChunk(id, number, checksum, content);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("{id}/commit")
+    public ResponseEntity<Void> handleCommitSession(@PathVariable UUID id) {
+        uploadSessionService.commitSession(id);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("{id}")
+    public ResponseEntity<Void> handleDeleteSession(@PathVariable UUID id) {
+        uploadSessionService.deleteSession(id);
+        return ResponseEntity.ok().build();
+    }
+}
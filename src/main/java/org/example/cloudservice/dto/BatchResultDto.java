@@ -0,0 +1,10 @@
+package org.example.cloudservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchResultDto(@JsonProperty("filename") String fileName, boolean success, String error) {
+}
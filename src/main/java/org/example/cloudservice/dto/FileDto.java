@@ -1,11 +1,17 @@
 package org.example.cloudservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
+import org.example.cloudservice.entity.ContentCodec;
 
 import java.time.LocalDateTime;
 
 @Builder
 public record FileDto(@JsonProperty("filename") String fileName, String hash,
-                      Long size, byte[] fileBytes, String type, LocalDateTime date) {
+                      Long size, String type, LocalDateTime date,
+                      @JsonIgnore ContentCodec codec, @JsonIgnore Long storedSize) {
+    public FileDto(String fileName, String hash, Long size, String type, LocalDateTime date) {
+        this(fileName, hash, size, type, date, null, null);
+    }
 }
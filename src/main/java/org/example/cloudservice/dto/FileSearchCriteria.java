@@ -0,0 +1,10 @@
+package org.example.cloudservice.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record FileSearchCriteria(String name, boolean prefix, String type, Long minSize, Long maxSize,
+                                 LocalDateTime from, LocalDateTime to) {
+}
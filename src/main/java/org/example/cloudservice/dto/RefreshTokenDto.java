@@ -0,0 +1,6 @@
+package org.example.cloudservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record RefreshTokenDto(@JsonProperty("refresh-token") String refreshToken) {
+}
@@ -0,0 +1,7 @@
+package org.example.cloudservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record RenameDto(@JsonProperty("filename") String fileName,
+                        @JsonProperty("new_filename") String newFileName) {
+}
@@ -0,0 +1,11 @@
+package org.example.cloudservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+@Builder
+public record StorageUsageDto(@JsonProperty("user_id") Long userId, String login,
+                              @JsonProperty("used_bytes") long usedBytes,
+                              @JsonProperty("file_count") long fileCount,
+                              @JsonProperty("quota_bytes") long quotaBytes) {
+}
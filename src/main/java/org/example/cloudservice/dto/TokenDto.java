@@ -1,6 +1,9 @@
 package org.example.cloudservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-public record TokenDto(@JsonProperty("auth-token") String authToken) {
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenDto(@JsonProperty("auth-token") String authToken,
+                       @JsonProperty("refresh-token") String refreshToken) {
 }
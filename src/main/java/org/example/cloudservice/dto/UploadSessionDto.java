@@ -0,0 +1,12 @@
+package org.example.cloudservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record UploadSessionDto(UUID id, @JsonProperty("filename") String fileName, Long size, int chunks,
+                               List<Integer> received) {
+}
@@ -0,0 +1,36 @@
+package org.example.cloudservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+@Table(name = "blobs", schema = "public")
+public class BlobEntity {
+    @Id
+    private String hash;
+
+    @Column(name = "content", nullable = false)
+    private Long contentOid;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ContentCodec codec;
+
+    @Column(nullable = false)
+    private Long storedSize;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+}
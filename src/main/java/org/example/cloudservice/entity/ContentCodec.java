@@ -0,0 +1,6 @@
+package org.example.cloudservice.entity;
+
+public enum ContentCodec {
+    IDENTITY,
+    GZIP
+}
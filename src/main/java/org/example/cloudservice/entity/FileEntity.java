@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Where(clause = "is_deleted <> true")
 public class FileEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "files_id_seq")
+    @SequenceGenerator(name = "files_id_seq", sequenceName = "files_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -27,10 +28,6 @@ public class FileEntity {
     @Column(nullable = false)
     private Long size;
 
-    @Lob
-    @Column(nullable = false)
-    private byte[] fileBytes;
-
     @Column(nullable = false)
     private String type;
 
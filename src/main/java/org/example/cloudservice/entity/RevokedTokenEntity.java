@@ -0,0 +1,23 @@
+package org.example.cloudservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+@Table(name = "revoked_tokens", schema = "public")
+public class RevokedTokenEntity {
+    @Id
+    private String jti;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedDate;
+}
@@ -0,0 +1,32 @@
+package org.example.cloudservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+@Table(name = "upload_chunks", schema = "public")
+public class UploadChunkEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private int number;
+
+    @Column(name = "content", nullable = false)
+    private Long contentOid;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(nullable = false)
+    private String checksum;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    private UploadSessionEntity session;
+}
@@ -0,0 +1,23 @@
+package org.example.cloudservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@RequiredArgsConstructor
+@Table(name = "user_storage", schema = "public")
+public class UserStorageEntity {
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private long usedBytes;
+
+    @Column(nullable = false)
+    private long fileCount;
+
+    private Long quotaBytes;
+}
@@ -0,0 +1,13 @@
+package org.example.cloudservice.exception;
+
+import lombok.Getter;
+
+@Getter
+public class QuotaExceededException extends RuntimeException {
+    private final long id;
+
+    public QuotaExceededException(String msg, long id) {
+        super(msg);
+        this.id = id;
+    }
+}
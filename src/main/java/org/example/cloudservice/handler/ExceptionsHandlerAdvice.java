@@ -1,24 +1,54 @@
 package org.example.cloudservice.handler;
 
+import lombok.RequiredArgsConstructor;
 import org.example.cloudservice.dto.ErrorDto;
 import org.example.cloudservice.exception.ErrorInputDataException;
 import org.example.cloudservice.exception.ErrorUserException;
+import org.example.cloudservice.exception.QuotaExceededException;
+import org.example.cloudservice.metrics.CloudMetrics;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class ExceptionsHandlerAdvice {
+    private final MessageSource messageSource;
+    private final CloudMetrics metrics;
+
     @ExceptionHandler(ErrorUserException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorDto invalidUserHandler(ErrorUserException e) {
+        metrics.recordError(e);
         return new ErrorDto(e.getId(), e.getMessage());
     }
 
     @ExceptionHandler(ErrorInputDataException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorDto invalidInputDataHandler(ErrorInputDataException e) {
+        metrics.recordError(e);
+        return new ErrorDto(e.getId(), e.getMessage());
+    }
+
+    @ExceptionHandler(QuotaExceededException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ErrorDto quotaExceededHandler(QuotaExceededException e) {
+        metrics.recordError(e);
         return new ErrorDto(e.getId(), e.getMessage());
     }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorDto> busyHandler(TaskRejectedException e) {
+        metrics.recordError(e);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorDto(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        messageSource.getMessage("upload.busy.error", null, LocaleContextHolder.getLocale())));
+    }
 }
@@ -0,0 +1,27 @@
+package org.example.cloudservice.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.service.QuotaService;
+import org.example.cloudservice.util.JwtTokenUtil;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class QuotaInterceptor implements HandlerInterceptor {
+    private final QuotaService quotaService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > 0
+                && !StringUtils.startsWithIgnoreCase(request.getContentType(), MediaType.APPLICATION_JSON_VALUE)) {
+            quotaService.checkAvailable(JwtTokenUtil.getAuthorizedUserId(), contentLength);
+        }
+        return true;
+    }
+}
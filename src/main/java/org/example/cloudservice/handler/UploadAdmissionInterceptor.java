@@ -0,0 +1,67 @@
+package org.example.cloudservice.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.config.UploadAdmissionProperties;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class UploadAdmissionInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMITS_ATTRIBUTE = UploadAdmissionInterceptor.class.getName() + ".permits";
+    private static final int PERMIT_SIZE = 1024;
+
+    private final UploadAdmissionProperties properties;
+    private final int totalPermits;
+    private final Semaphore budget;
+
+    public UploadAdmissionInterceptor(UploadAdmissionProperties properties) {
+        this.properties = properties;
+        this.totalPermits = (int) Math.min(Integer.MAX_VALUE, properties.getMaxInFlight().toBytes() / PERMIT_SIZE);
+        this.budget = new Semaphore(totalPermits, true);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        long contentLength = request.getContentLengthLong();
+        if (!properties.isEnabled() || contentLength <= 0 || request.getAttribute(PERMITS_ATTRIBUTE) != null
+                || StringUtils.startsWithIgnoreCase(request.getContentType(), MediaType.APPLICATION_JSON_VALUE)) {
+            return true;
+        }
+
+        int permits = (int) Math.min(totalPermits, (contentLength + PERMIT_SIZE - 1) / PERMIT_SIZE);
+        if (!budget.tryAcquire(permits, properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.debug("Upload of {} bytes rejected, in-flight budget exhausted", contentLength);
+            throw new TaskRejectedException("Upload budget exhausted");
+        }
+        request.setAttribute(PERMITS_ATTRIBUTE, permits);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object permits = request.getAttribute(PERMITS_ATTRIBUTE);
+        if (permits != null) {
+            request.removeAttribute(PERMITS_ATTRIBUTE);
+            budget.release((Integer) permits);
+        }
+    }
+
+    public long inFlightBytes() {
+        return (long) (totalPermits - budget.availablePermits()) * PERMIT_SIZE;
+    }
+
+    public long maxInFlightBytes() {
+        return (long) totalPermits * PERMIT_SIZE;
+    }
+}
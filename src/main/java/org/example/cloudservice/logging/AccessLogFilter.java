@@ -0,0 +1,123 @@
+package org.example.cloudservice.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.cloudservice.config.AccessLogProperties;
+import org.example.cloudservice.security.JwtTokenAuth;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+    private static final String UNMATCHED = "unmatched";
+
+    private final AccessLogProperties properties;
+    private final ErrorLogLimiter errorLogLimiter;
+
+    public AccessLogFilter(AccessLogProperties properties) {
+        this.properties = properties;
+        this.errorLogLimiter = new ErrorLogLimiter(properties.getErrorLimit(),
+                properties.getErrorLimitPeriod().toNanos());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !ACCESS_LOG.isInfoEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Long userId = getUserId();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, userId, start));
+            } else {
+                log(request, response, userId, start);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, Long userId, long start) {
+        int status = response.getStatus();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : UNMATCHED;
+        long suppressed = 0;
+        if (status < 400) {
+            if (ThreadLocalRandom.current().nextDouble() >= properties.getSuccessSampleRate()) {
+                return;
+            }
+        } else {
+            long now = System.nanoTime();
+            suppressed = errorLogLimiter.tryAcquire(route + ' ' + status, now);
+            if (suppressed < 0) {
+                return;
+            }
+        }
+
+        ACCESS_LOG.atInfo()
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("route", route)
+                .addKeyValue("status", status)
+                .addKeyValue("duration_ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .addKeyValue("user_id", userId)
+                .addKeyValue("client", request.getRemoteAddr())
+                .addKeyValue("request_bytes", request.getContentLengthLong())
+                .addKeyValue("suppressed", suppressed)
+                .log("access");
+    }
+
+    private static Long getUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication instanceof JwtTokenAuth jwtTokenAuth ? jwtTokenAuth.getUserId() : null;
+    }
+
+    private class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final Long userId;
+        private final long start;
+
+        private CompletionListener(HttpServletRequest request, HttpServletResponse response, Long userId,
+                                   long start) {
+            this.request = request;
+            this.response = response;
+            this.userId = userId;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            log(request, response, userId, start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
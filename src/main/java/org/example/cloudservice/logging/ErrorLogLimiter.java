@@ -0,0 +1,39 @@
+package org.example.cloudservice.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ErrorLogLimiter {
+    private final int limit;
+    private final long periodNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    ErrorLogLimiter(int limit, long periodNanos) {
+        this.limit = limit;
+        this.periodNanos = periodNanos;
+    }
+
+    long tryAcquire(String key, long now) {
+        Window window = windows.computeIfAbsent(key, ignored -> new Window(now));
+        long start = window.start.get();
+        if (now - start >= periodNanos && window.start.compareAndSet(start, now)) {
+            window.count.set(0);
+        }
+        if (window.count.incrementAndGet() > limit) {
+            window.suppressed.incrementAndGet();
+            return -1;
+        }
+        return window.suppressed.getAndSet(0);
+    }
+
+    private static final class Window {
+        private final AtomicLong start;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+    }
+}
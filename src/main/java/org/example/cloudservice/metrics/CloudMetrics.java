@@ -0,0 +1,195 @@
+package org.example.cloudservice.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.cloudservice.entity.UserRoles;
+import org.example.cloudservice.security.JwtTokenAuth;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class CloudMetrics {
+    private final MeterRegistry meterRegistry;
+    private final Map<Operation, Map<Tier, Timer>> operationTimers = new EnumMap<>(Operation.class);
+    private final Map<StorageOperation, Map<Tier, Timer>> storageTimers = new EnumMap<>(StorageOperation.class);
+    private final Map<Tier, Timer> hashTimers = new EnumMap<>(Tier.class);
+    private final Map<Tier, Counter> uploadedBytes = new EnumMap<>(Tier.class);
+    private final Map<Tier, Counter> downloadedBytes = new EnumMap<>(Tier.class);
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
+    private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rateLimitCounters = new ConcurrentHashMap<>();
+    private final Counter purgedFiles;
+    private final Map<PurgeSource, Counter> purgedObjects = new EnumMap<>(PurgeSource.class);
+    private final Map<PurgeSource, Counter> reclaimedBytes = new EnumMap<>(PurgeSource.class);
+
+    public CloudMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Operation operation : Operation.values()) {
+            operationTimers.put(operation, timers("cloud.operation", "operation", operation.tag));
+        }
+        for (StorageOperation operation : StorageOperation.values()) {
+            storageTimers.put(operation, timers("cloud.storage", "operation", operation.tag));
+        }
+        for (Tier tier : Tier.values()) {
+            hashTimers.put(tier, Timer.builder("cloud.hash")
+                    .tag("tier", tier.tag)
+                    .register(meterRegistry));
+            uploadedBytes.put(tier, bytesCounter("upload", tier));
+            downloadedBytes.put(tier, bytesCounter("download", tier));
+        }
+        validTokenTimer = tokenTimer("valid");
+        invalidTokenTimer = tokenTimer("invalid");
+        purgedFiles = Counter.builder("cloud.purge.files")
+                .register(meterRegistry);
+        for (PurgeSource source : PurgeSource.values()) {
+            purgedObjects.put(source, Counter.builder("cloud.purge.objects")
+                    .tag("source", source.tag)
+                    .register(meterRegistry));
+            reclaimedBytes.put(source, Counter.builder("cloud.purge.reclaimed")
+                    .baseUnit("bytes")
+                    .tag("source", source.tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordOperation(Operation operation, long startNanos) {
+        operationTimers.get(operation).get(currentTier())
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStorage(StorageOperation operation, long nanos) {
+        storageTimers.get(operation).get(currentTier()).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public Timer hashTimer() {
+        return hashTimers.get(currentTier());
+    }
+
+    public void recordUploadedBytes(long bytes) {
+        uploadedBytes.get(currentTier()).increment(bytes);
+    }
+
+    public void recordDownloadedBytes(long bytes) {
+        downloadedBytes.get(currentTier()).increment(bytes);
+    }
+
+    public void recordTokenVerification(boolean valid, long startNanos) {
+        (valid ? validTokenTimer : invalidTokenTimer).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordError(Exception e) {
+        errorCounters.computeIfAbsent(e.getClass(), type -> Counter.builder("cloud.errors")
+                        .tag("exception", type.getSimpleName())
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void recordRateLimited(String rule) {
+        rateLimitCounters.computeIfAbsent(rule, name -> Counter.builder("rate.limit.rejected")
+                        .tag("rule", name)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void recordPurgedFiles(int count) {
+        purgedFiles.increment(count);
+    }
+
+    public void recordReclaimedObject(PurgeSource source, long bytes) {
+        purgedObjects.get(source).increment();
+        reclaimedBytes.get(source).increment(bytes);
+    }
+
+    private Map<Tier, Timer> timers(String name, String key, String value) {
+        Map<Tier, Timer> timers = new EnumMap<>(Tier.class);
+        for (Tier tier : Tier.values()) {
+            timers.put(tier, Timer.builder(name)
+                    .tag(key, value)
+                    .tag("tier", tier.tag)
+                    .register(meterRegistry));
+        }
+        return timers;
+    }
+
+    private Counter bytesCounter(String direction, Tier tier) {
+        return Counter.builder("cloud.transfer")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .tag("tier", tier.tag)
+                .register(meterRegistry);
+    }
+
+    private Timer tokenTimer(String outcome) {
+        return Timer.builder("jwt.verify")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Tier currentTier() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtTokenAuth jwtTokenAuth && jwtTokenAuth.getRoles() != null) {
+            return jwtTokenAuth.getRoles().contains(UserRoles.ROLE_ADMIN) ? Tier.ADMIN : Tier.USER;
+        }
+        return Tier.ANONYMOUS;
+    }
+
+    public enum Operation {
+        UPLOAD("upload"),
+        DELETE("delete"),
+        DOWNLOAD("download"),
+        RENAME("rename"),
+        LIST("list"),
+        SEARCH("search"),
+        BATCH_UPLOAD("batch_upload"),
+        BATCH_DELETE("batch_delete"),
+        BATCH_RENAME("batch_rename");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    public enum StorageOperation {
+        READ("read"),
+        WRITE("write");
+
+        private final String tag;
+
+        StorageOperation(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    public enum PurgeSource {
+        BLOB("blob"),
+        ORPHAN("orphan");
+
+        private final String tag;
+
+        PurgeSource(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    public enum Tier {
+        ANONYMOUS("anonymous"),
+        USER("user"),
+        ADMIN("admin");
+
+        private final String tag;
+
+        Tier(String tag) {
+            this.tag = tag;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.cloudservice.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.cloudservice.logging.CountingAsyncAppender;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+@Component
+public class LoggingMetrics implements MeterBinder {
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        Set<String> bound = new HashSet<>();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof CountingAsyncAppender appender && bound.add(appender.getName())) {
+                    FunctionCounter.builder("logging.events.dropped", appender,
+                                    CountingAsyncAppender::getDroppedCount)
+                            .tag("appender", appender.getName())
+                            .register(registry);
+                    Gauge.builder("logging.queue.size", appender, CountingAsyncAppender::getNumberOfElementsInQueue)
+                            .tag("appender", appender.getName())
+                            .register(registry);
+                }
+            }
+        }
+    }
+}
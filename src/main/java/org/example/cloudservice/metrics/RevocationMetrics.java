@@ -0,0 +1,20 @@
+package org.example.cloudservice.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.service.Impl.RevocationServiceImpl;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RevocationMetrics implements MeterBinder {
+    private final RevocationServiceImpl revocationService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.revocation.size", revocationService, RevocationServiceImpl::size)
+                .register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.cloudservice.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.handler.UploadAdmissionInterceptor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UploadAdmissionMetrics implements MeterBinder {
+    private final UploadAdmissionInterceptor uploadAdmissionInterceptor;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("upload.admission.in.flight", uploadAdmissionInterceptor,
+                        UploadAdmissionInterceptor::inFlightBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("upload.admission.limit", uploadAdmissionInterceptor,
+                        UploadAdmissionInterceptor::maxInFlightBytes)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
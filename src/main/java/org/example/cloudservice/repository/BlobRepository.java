@@ -0,0 +1,43 @@
+package org.example.cloudservice.repository;
+
+import org.example.cloudservice.entity.BlobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BlobRepository extends JpaRepository<BlobEntity, String> {
+    @Query(value = "insert into blobs (hash, content, size, codec, stored_size, ref_count) " +
+            "values (:hash, :content, :size, :codec, :storedSize, 1) " +
+            "on conflict (hash) do update set ref_count = blobs.ref_count + 1 returning content", nativeQuery = true)
+    Long acquire(String hash, long content, long size, String codec, long storedSize);
+
+    @Modifying
+    @Query("update BlobEntity b set b.refCount = b.refCount + 1 where b.hash = :hash")
+    int incrementRefCount(String hash);
+
+    @Modifying
+    @Query("update BlobEntity b set b.refCount = b.refCount - 1 where b.hash = :hash")
+    int decrementRefCount(String hash);
+
+    @Modifying
+    @Query("update BlobEntity b set b.refCount = b.refCount - :count where b.hash in :hashes")
+    int decrementRefCounts(Collection<String> hashes, int count);
+
+    @Query(value = "delete from blobs b where b.ref_count <= 0 and b.hash in (" +
+            "select u.hash from blobs u where u.ref_count <= 0 limit :limit for update skip locked) " +
+            "returning b.hash, b.content, b.stored_size", nativeQuery = true)
+    List<Object[]> deleteUnreferenced(int limit);
+
+    @Query(value = "select cast(m.oid as bigint) from pg_largeobject_metadata m " +
+            "where not exists(select 1 from blobs b where b.content = m.oid) " +
+            "and not exists(select 1 from upload_chunks c where c.content = m.oid) limit :limit", nativeQuery = true)
+    List<Long> findOrphanedContent(int limit);
+
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryLock(long key);
+}
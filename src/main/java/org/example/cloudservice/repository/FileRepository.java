@@ -1,17 +1,42 @@
 package org.example.cloudservice.repository;
 
+import org.example.cloudservice.dto.FileDto;
 import org.example.cloudservice.entity.FileEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FileRepository extends JpaRepository<FileEntity, Long> {
-    Optional<FileEntity> findFileEntityByFileName(String fileName);
+public interface FileRepository extends JpaRepository<FileEntity, Long>, FileSearchRepository {
+    Optional<FileEntity> findFileEntityByUserIdAndFileName(Long userId, String fileName);
 
-    @Query(value = "select * from files f where f.user_id = :userId order by f.file_name limit :limit", nativeQuery = true)
-    List<FileEntity> findFilesByUserIdWithLimit(Long userId, int limit);
+    boolean existsFileEntityByUserIdAndFileName(Long userId, String fileName);
+
+    List<FileEntity> findFileEntitiesByUserIdAndFileNameIn(Long userId, Collection<String> fileNames);
+
+    @Query("select f.fileName from FileEntity f " +
+            "where f.user.id = :userId and f.isDeleted = false and f.fileName in :fileNames")
+    List<String> findFileNamesByUserIdAndFileNameIn(Long userId, Collection<String> fileNames);
+
+    @Modifying
+    @Query("update FileEntity f set f.isDeleted = true, f.createdDate = :deletedDate where f.id in :ids")
+    int softDeleteByIdIn(Collection<Long> ids, LocalDateTime deletedDate);
+
+    @Modifying
+    @Query(value = "delete from files f where f.id in (" +
+            "select d.id from files d where d.is_deleted = true and d.created_date < :deletedBefore " +
+            "limit :limit for update skip locked)", nativeQuery = true)
+    int deleteSoftDeletedBefore(LocalDateTime deletedBefore, int limit);
+
+    @Query("select new org.example.cloudservice.dto.FileDto(f.fileName, f.hash, f.size, f.type, f.createdDate) " +
+            "from FileEntity f where f.user.id = :userId and f.isDeleted = false and f.fileName > :after " +
+            "order by f.fileName")
+    List<FileDto> findFileInfoByUserIdAfter(Long userId, String after, Pageable pageable);
 }
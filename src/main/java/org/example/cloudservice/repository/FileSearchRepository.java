@@ -0,0 +1,10 @@
+package org.example.cloudservice.repository;
+
+import org.example.cloudservice.dto.FileDto;
+import org.example.cloudservice.dto.FileSearchCriteria;
+
+import java.util.List;
+
+public interface FileSearchRepository {
+    List<FileDto> searchFiles(Long userId, FileSearchCriteria criteria, String after, int limit);
+}
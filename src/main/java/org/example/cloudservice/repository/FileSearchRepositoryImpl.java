@@ -0,0 +1,74 @@
+package org.example.cloudservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.dto.FileDto;
+import org.example.cloudservice.dto.FileSearchCriteria;
+import org.example.cloudservice.entity.FileEntity;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@RequiredArgsConstructor
+public class FileSearchRepositoryImpl implements FileSearchRepository {
+    private static final char ESCAPE = '\\';
+    private static final String TYPE_WILDCARD = "/*";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<FileDto> searchFiles(Long userId, FileSearchCriteria criteria, String after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FileDto> query = cb.createQuery(FileDto.class);
+        Root<FileEntity> file = query.from(FileEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(file.get("user").get("id"), userId));
+        predicates.add(cb.isFalse(file.get("isDeleted")));
+        predicates.add(cb.greaterThan(file.get("fileName"), after));
+        if (StringUtils.hasText(criteria.name())) {
+            String fragment = escape(criteria.name().toLowerCase(Locale.ROOT));
+            predicates.add(cb.like(cb.lower(file.get("fileName")),
+                    criteria.prefix() ? fragment + "%" : "%" + fragment + "%", ESCAPE));
+        }
+        if (StringUtils.hasText(criteria.type())) {
+            predicates.add(criteria.type().endsWith(TYPE_WILDCARD)
+                    ? cb.like(file.get("type"), escape(criteria.type().substring(0, criteria.type().length() - 1)) + "%",
+                    ESCAPE)
+                    : cb.equal(file.get("type"), criteria.type()));
+        }
+        if (criteria.minSize() != null) {
+            predicates.add(cb.ge(file.get("size"), criteria.minSize()));
+        }
+        if (criteria.maxSize() != null) {
+            predicates.add(cb.le(file.get("size"), criteria.maxSize()));
+        }
+        if (criteria.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(file.<LocalDateTime>get("createdDate"), criteria.from()));
+        }
+        if (criteria.to() != null) {
+            predicates.add(cb.lessThan(file.<LocalDateTime>get("createdDate"), criteria.to()));
+        }
+
+        query.select(cb.construct(FileDto.class, file.get("fileName"), file.get("hash"), file.get("size"),
+                        file.get("type"), file.get("createdDate")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(file.get("fileName")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.cloudservice.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.cloudservice.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, String> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from RefreshTokenEntity t where t.tokenHash = :tokenHash")
+    Optional<RefreshTokenEntity> findForUpdate(String tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshTokenEntity t where t.familyId = :familyId")
+    int deleteByFamilyId(UUID familyId);
+
+    @Modifying
+    @Query("delete from RefreshTokenEntity t where t.userId = :userId")
+    int deleteByUserId(Long userId);
+
+    @Modifying
+    @Query("delete from RefreshTokenEntity t where t.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,29 @@
+package org.example.cloudservice.repository;
+
+import org.example.cloudservice.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+    @Modifying
+    @Query(value = "insert into revoked_tokens (jti, expires_at) values (:jti, :expiresAt) on conflict do nothing",
+            nativeQuery = true)
+    int revoke(String jti, LocalDateTime expiresAt);
+
+    @Query(value = "select cast(cast(pg_snapshot_xmin(pg_current_snapshot()) as text) as bigint)", nativeQuery = true)
+    long findSnapshotXmin();
+
+    @Query(value = "select t.* from revoked_tokens t " +
+            "where t.revoked_xid >= cast(cast(:xmin as text) as xid8) and t.expires_at > :now", nativeQuery = true)
+    List<RevokedTokenEntity> findRevokedSince(long xmin, LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RevokedTokenEntity t where t.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
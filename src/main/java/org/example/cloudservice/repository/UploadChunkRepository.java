@@ -0,0 +1,16 @@
+package org.example.cloudservice.repository;
+
+import org.example.cloudservice.entity.UploadChunkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UploadChunkRepository extends JpaRepository<UploadChunkEntity, Long> {
+    Optional<UploadChunkEntity> findUploadChunkEntityBySessionIdAndNumber(UUID sessionId, int number);
+
+    List<UploadChunkEntity> findUploadChunkEntitiesBySessionIdOrderByNumber(UUID sessionId);
+}
@@ -0,0 +1,26 @@
+package org.example.cloudservice.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.cloudservice.entity.UploadSessionEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSessionEntity, UUID> {
+    Optional<UploadSessionEntity> findUploadSessionEntityByIdAndUserId(UUID id, Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UploadSessionEntity s where s.id = :id")
+    Optional<UploadSessionEntity> findForUpdate(UUID id);
+
+    List<UploadSessionEntity> findUploadSessionEntitiesByUpdatedDateBefore(LocalDateTime updatedDate,
+                                                                           Pageable pageable);
+}
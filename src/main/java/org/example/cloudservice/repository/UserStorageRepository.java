@@ -0,0 +1,29 @@
+package org.example.cloudservice.repository;
+
+import org.example.cloudservice.dto.StorageUsageDto;
+import org.example.cloudservice.entity.UserStorageEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserStorageRepository extends JpaRepository<UserStorageEntity, Long> {
+    @Modifying
+    @Query(value = "insert into user_storage as s (user_id, used_bytes, file_count) values (:userId, :bytes, :files) " +
+            "on conflict (user_id) do update set used_bytes = s.used_bytes + :bytes, file_count = s.file_count + :files " +
+            "where s.used_bytes + :bytes <= coalesce(s.quota_bytes, :defaultQuota)", nativeQuery = true)
+    int reserve(Long userId, long bytes, long files, long defaultQuota);
+
+    @Modifying
+    @Query("update UserStorageEntity s set s.usedBytes = s.usedBytes - :bytes, s.fileCount = s.fileCount - :files " +
+            "where s.userId = :userId")
+    int release(Long userId, long bytes, long files);
+
+    @Query("select new org.example.cloudservice.dto.StorageUsageDto(u.id, u.login, coalesce(s.usedBytes, 0), " +
+            "coalesce(s.fileCount, 0), coalesce(s.quotaBytes, :defaultQuota)) " +
+            "from UserEntity u left join UserStorageEntity s on s.userId = u.id order by u.id")
+    List<StorageUsageDto> findAllUsage(long defaultQuota);
+}
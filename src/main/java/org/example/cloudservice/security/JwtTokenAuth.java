@@ -12,6 +12,7 @@ import java.util.Set;
 @Data
 public class JwtTokenAuth implements Authentication {
     private boolean authenticated;
+    private Long userId;
     private String username;
     private String firstName;
     private Set<UserRoles> roles;
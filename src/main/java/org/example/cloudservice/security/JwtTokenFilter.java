@@ -8,6 +8,7 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.metrics.CloudMetrics;
 import org.example.cloudservice.util.JwtTokenUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,6 +17,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -25,21 +27,28 @@ public class JwtTokenFilter extends GenericFilterBean {
     @Value("${auth.header}")
     private String AUTH_TOKEN_HEADER;
     private final JwtTokenProvider jwtTokenProvider;
+    private final CloudMetrics metrics;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String token = getTokenFromRequest((HttpServletRequest) request);
 
-        if (token != null && jwtTokenProvider.validateAuthToken(token)) {
-            Claims claims = jwtTokenProvider.getAccessClaims(token);
-            JwtTokenAuth jwtInfoToken = JwtTokenUtil.generate(claims);
-            jwtInfoToken.setAuthenticated(true);
-            SecurityContextHolder.getContext().setAuthentication(jwtInfoToken);
+        if (token != null) {
+            long start = System.nanoTime();
+            Optional<Claims> claims = jwtTokenProvider.resolveClaims(token);
+            metrics.recordTokenVerification(claims.isPresent(), start);
+            claims.ifPresent(this::authenticate);
         }
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(Claims claims) {
+        JwtTokenAuth jwtInfoToken = JwtTokenUtil.generate(claims);
+        jwtInfoToken.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(jwtInfoToken);
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearer = request.getHeader(AUTHORIZATION);
         String bearerToken = request.getHeader(AUTH_TOKEN_HEADER);
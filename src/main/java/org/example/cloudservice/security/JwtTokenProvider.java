@@ -1,38 +1,50 @@
 package org.example.cloudservice.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.cloudservice.config.JwtTokenConfig;
 import org.example.cloudservice.entity.UserEntity;
 import org.example.cloudservice.entity.UserRoles;
+import org.example.cloudservice.service.RevocationService;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class JwtTokenProvider {
     private final JwtTokenConfig jwtTokenConfig;
-    private UserEntity currentLoggedUser;
-    private final Set<String> blacklistedTokens = new HashSet<>();
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedClaims;
+    private final RevocationService revocationService;
 
-    public UserEntity getAuthorizedUser() {
-        return currentLoggedUser;
+    public JwtTokenProvider(JwtTokenConfig jwtTokenConfig, RevocationService revocationService,
+                            MeterRegistry meterRegistry) {
+        this.jwtTokenConfig = jwtTokenConfig;
+        this.revocationService = revocationService;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(jwtTokenConfig.getSecret())
+                .build();
+        Cache<String, Claims> cache = Caffeine.newBuilder()
+                .maximumSize(jwtTokenConfig.getCacheSize())
+                .recordStats()
+                .expireAfter(new ClaimsExpiry())
+                .build();
+        this.verifiedClaims = CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.claims");
     }
 
     public String generateAuthToken(@NonNull UserEntity user) {
-        currentLoggedUser = user;
         LocalDateTime now = LocalDateTime.now();
         Instant accessExpirationInstant = now.plusMinutes(jwtTokenConfig.getExpiration())
                 .atZone(ZoneId.systemDefault()).toInstant();
@@ -41,52 +53,58 @@ public class JwtTokenProvider {
         Set<UserRoles> roles = user.getRoles();
 
         return Jwts.builder()
-                .setId(String.valueOf(user.getId()))
+                .setId(UUID.randomUUID().toString())
                 .setSubject(user.getLogin())
                 .setExpiration(accessExpiration)
                 .signWith(jwtTokenConfig.getSecret())
+                .claim("uid", user.getId())
                 .claim("roles", roles)
                 .compact();
     }
 
     public boolean validateAuthToken(@NonNull String accessToken) {
-        if (blacklistedTokens.contains(accessToken)) {
-            return false;
-        }
+        return resolveClaims(accessToken).isPresent();
+    }
 
+    public Claims getAccessClaims(@NonNull String token) {
+        return verifiedClaims.get(token, this::getClaimsFromToken);
+    }
+
+    public Optional<Claims> resolveClaims(@NonNull String accessToken) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(jwtTokenConfig.getSecret())
-                    .build()
-                    .parseClaimsJws(accessToken);
-            return true;
-        } catch (SignatureException e) {
-            log.error("Invalid signature for token: {}", accessToken, e);
-        } catch (MalformedJwtException e) {
-            log.error("Malformed jwt for token: {}", accessToken, e);
-        } catch (ExpiredJwtException e) {
-            log.error("Token expired for token: {}", accessToken, e);
-        } catch (UnsupportedJwtException e) {
-            log.error("Unsupported jwt for token: {}", accessToken, e);
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid token: {}", accessToken, e);
+            Claims claims = getAccessClaims(accessToken);
+            return revocationService.isRevoked(claims.getId()) ? Optional.empty() : Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Token rejected: {}", e.getClass().getSimpleName());
         }
-        return false;
+        return Optional.empty();
     }
 
-    public Claims getAccessClaims(@NonNull String token) {
-        return getClaimsFromToken(token, jwtTokenConfig.getSecret());
+    private Claims getClaimsFromToken(@NonNull String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
-    private Claims getClaimsFromToken(@NonNull String token, @NonNull SecretKey secret) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public void blacklistToken(String authToken) {
+        resolveClaims(authToken).ifPresent(claims ->
+                revocationService.revoke(claims.getId(), claims.getExpiration()));
     }
 
-    public void blacklistToken(String authToken) {
-        blacklistedTokens.add(authToken);
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long millisToLive = expiration == null ? 0 : expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millisToLive));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
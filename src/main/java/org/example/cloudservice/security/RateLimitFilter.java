@@ -0,0 +1,135 @@
+package org.example.cloudservice.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.config.RateLimitProperties;
+import org.example.cloudservice.dto.ErrorDto;
+import org.example.cloudservice.metrics.CloudMetrics;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitProperties properties;
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final CloudMetrics metrics;
+    private final List<Rule> rules;
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    public RateLimitFilter(RateLimitProperties properties, MessageSource messageSource, ObjectMapper objectMapper,
+                           CloudMetrics metrics, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.rules = properties.getRules().entrySet().stream()
+                .map(Rule::new)
+                .sorted(Comparator.comparingInt((Rule rule) -> rule.path.length()).reversed())
+                .toList();
+        Cache<BucketKey, TokenBucket> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .recordStats()
+                .build();
+        this.buckets = CaffeineCacheMetrics.monitor(meterRegistry, cache, "rate.limit.buckets");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Rule rule = findRule(request.getRequestURI());
+        if (rule != null) {
+            long now = System.nanoTime();
+            TokenBucket bucket = buckets.get(new BucketKey(rule.name, getSubject(request)),
+                    key -> new TokenBucket(rule.emissionInterval, rule.capacity, now));
+            long wait = bucket.tryAcquire(now);
+            if (wait > 0) {
+                reject(request, response, rule, wait);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Rule findRule(String uri) {
+        for (Rule rule : rules) {
+            if (rule.matches(uri)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private Object getSubject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtTokenAuth jwtTokenAuth && jwtTokenAuth.getUserId() != null) {
+            return jwtTokenAuth.getUserId();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Rule rule, long waitNanos)
+            throws IOException {
+        metrics.recordRateLimited(rule.name);
+        log.debug("Rate limit {} exceeded by {}", rule.name, getSubject(request));
+
+        long retryAfter = (waitNanos + ONE_SECOND - 1) / ONE_SECOND;
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), new ErrorDto(HttpStatus.TOO_MANY_REQUESTS.value(),
+                messageSource.getMessage("rate.limit.error", null, request.getLocale())));
+    }
+
+    private record BucketKey(String rule, Object subject) {
+    }
+
+    private static final class Rule {
+        private final String name;
+        private final String path;
+        private final int capacity;
+        private final long emissionInterval;
+
+        private Rule(Map.Entry<String, RateLimitProperties.Rule> entry) {
+            this.name = entry.getKey();
+            this.path = entry.getValue().path();
+            this.capacity = entry.getValue().capacity();
+            this.emissionInterval = entry.getValue().period().toNanos() / capacity;
+        }
+
+        private boolean matches(String uri) {
+            return uri.startsWith(path) && (uri.length() == path.length() || path.endsWith("/")
+                    || uri.charAt(path.length()) == '/');
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.cloudservice.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class TokenBucket {
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long emissionInterval, int capacity, long now) {
+        this.emissionInterval = emissionInterval;
+        this.burstTolerance = emissionInterval * capacity;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    long tryAcquire(long now) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, now) + emissionInterval;
+            long wait = next - now - burstTolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.cloudservice.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncUploadService {
+    CompletableFuture<Void> uploadFile(String fileName, MultipartFile file);
+}
@@ -8,5 +8,9 @@ import org.example.cloudservice.dto.UserDto;
 public interface AuthService {
     TokenDto login(UserDto userDTO);
 
+    TokenDto refresh(String refreshToken);
+
+    void revoke(String refreshToken);
+
     boolean logout(String token, HttpServletRequest request, HttpServletResponse response);
 }
@@ -0,0 +1,18 @@
+package org.example.cloudservice.service;
+
+import org.example.cloudservice.entity.BlobEntity;
+import org.example.cloudservice.entity.ContentCodec;
+
+import java.util.Collection;
+
+public interface BlobService {
+    void acquire(String hash, long oid, long size, ContentCodec codec, long storedSize);
+
+    boolean acquireExisting(String hash);
+
+    void release(String hash);
+
+    void releaseAll(Collection<String> hashes);
+
+    BlobEntity getBlob(String hash);
+}
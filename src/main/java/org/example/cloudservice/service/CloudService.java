@@ -1,18 +1,40 @@
 package org.example.cloudservice.service;
 
+import org.example.cloudservice.dto.BatchResultDto;
 import org.example.cloudservice.dto.FileDto;
+import org.example.cloudservice.dto.FileSearchCriteria;
+import org.example.cloudservice.dto.RenameDto;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface CloudService {
     void uploadFile(String fileName, MultipartFile file);
 
+    void uploadFile(String fileName, String type, long size, InputStreamSource content);
+
+    void uploadFile(String fileName, String type, long size, InputStreamSource content, String hash);
+
+    List<BatchResultDto> uploadFiles(List<MultipartFile> files);
+
     void deleteFile(String fileName);
 
+    List<BatchResultDto> deleteFiles(List<String> fileNames);
+
     FileDto downloadFile(String fileName);
 
+    void transferFile(String fileName, long offset, long length, OutputStream out) throws IOException;
+
+    void transferStoredFile(String fileName, OutputStream out) throws IOException;
+
     void editFileName(String fileName, FileDto fileDTO);
 
-    List<FileDto> getFileList(int limit);
+    List<BatchResultDto> renameFiles(List<RenameDto> renames);
+
+    List<FileDto> getFileList(int limit, String after);
+
+    List<FileDto> searchFiles(FileSearchCriteria criteria, int limit, String after);
 }
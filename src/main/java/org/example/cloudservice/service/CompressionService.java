@@ -0,0 +1,16 @@
+package org.example.cloudservice.service;
+
+import org.example.cloudservice.entity.ContentCodec;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface CompressionService {
+    ContentCodec chooseCodec(String type, long size, BufferedInputStream in) throws IOException;
+
+    OutputStream encode(ContentCodec codec, OutputStream out) throws IOException;
+
+    InputStream decode(ContentCodec codec, InputStream in) throws IOException;
+}
@@ -0,0 +1,15 @@
+package org.example.cloudservice.service;
+
+import org.example.cloudservice.entity.BlobEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface ContentCacheService {
+    void transferTo(BlobEntity blob, long offset, long length, OutputStream out) throws IOException;
+
+    InputStream openInputStream(BlobEntity blob) throws IOException;
+
+    void invalidate(String hash, long contentOid);
+}
@@ -0,0 +1,55 @@
+package org.example.cloudservice.service.Impl;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.config.UploadExecutorProperties;
+import org.example.cloudservice.config.UploadExecutors;
+import org.example.cloudservice.exception.ErrorInputDataException;
+import org.example.cloudservice.metrics.CloudMetrics;
+import org.example.cloudservice.service.AsyncUploadService;
+import org.example.cloudservice.util.JwtTokenUtil;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncUploadServiceImpl implements AsyncUploadService {
+    private final MessageSource messageSource;
+    private final CloudServiceImpl cloudService;
+    private final UploadExecutors uploadExecutors;
+    private final UploadExecutorProperties uploadExecutorProperties;
+    private final CloudMetrics metrics;
+
+    @Override
+    public CompletableFuture<Void> uploadFile(String fileName, @NonNull MultipartFile file) {
+        if (!uploadExecutorProperties.isEnabled() || file.isEmpty()) {
+            cloudService.uploadFile(fileName, file);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture
+                .supplyAsync(() -> hashFile(fileName, file), uploadExecutors.hashExecutor())
+                .thenAcceptAsync(hash -> cloudService.uploadFile(fileName, file.getContentType(), file.getSize(),
+                        file, hash), uploadExecutors.storeExecutor());
+    }
+
+    private String hashFile(String fileName, MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return CloudServiceImpl.calculateFileHash(in, OutputStream.nullOutputStream(), metrics.hashTimer());
+        } catch (IOException e) {
+            log.error("File processing error: {}", fileName);
+            throw new ErrorInputDataException(
+                    messageSource.getMessage("file.process.error", null, LocaleContextHolder.getLocale()),
+                    JwtTokenUtil.getAuthorizedUserId());
+        }
+    }
+}
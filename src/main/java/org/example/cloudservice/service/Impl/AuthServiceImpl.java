@@ -7,12 +7,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.cloudservice.dto.TokenDto;
 import org.example.cloudservice.dto.UserDto;
+import org.example.cloudservice.entity.RefreshTokenEntity;
 import org.example.cloudservice.entity.UserEntity;
 import org.example.cloudservice.exception.ErrorInputDataException;
 import org.example.cloudservice.exception.ErrorUserException;
 import org.example.cloudservice.repository.UserRepository;
 import org.example.cloudservice.security.JwtTokenProvider;
 import org.example.cloudservice.service.AuthService;
+import org.example.cloudservice.service.RefreshTokenService;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.security.core.Authentication;
@@ -32,6 +34,7 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     public TokenDto login(@NonNull UserDto userDto) {
@@ -39,12 +42,29 @@ public class AuthServiceImpl implements AuthService {
         var user = findUserByLogin(userDto.login());
         if (isEquals(userDto, user)) {
             String token = jwtTokenProvider.generateAuthToken(user);
-            return new TokenDto(token);
+            return new TokenDto(token, refreshTokenService.issue(user.getId()));
         } else {
             throw new ErrorInputDataException(message, user.getId());
         }
     }
 
+    @Override
+    @Transactional(noRollbackFor = ErrorInputDataException.class)
+    public TokenDto refresh(@NonNull String refreshToken) {
+        RefreshTokenEntity current = refreshTokenService.consume(refreshToken);
+        final var message = messageSource.getMessage("user.login.error", null, LocaleContextHolder.getLocale());
+        var user = userRepository.findById(current.getUserId()).orElseThrow(() ->
+                new ErrorUserException(message, 0));
+
+        String token = jwtTokenProvider.generateAuthToken(user);
+        return new TokenDto(token, refreshTokenService.issue(user.getId(), current.getFamilyId()));
+    }
+
+    @Override
+    public void revoke(@NonNull String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
+
     @Override
     public boolean logout(String authToken, HttpServletRequest request, HttpServletResponse response) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -55,6 +75,7 @@ public class AuthServiceImpl implements AuthService {
             if (user != null) {
                 securityContextLogoutHandler.logout(request, response, auth);
                 jwtTokenProvider.blacklistToken(authToken);
+                refreshTokenService.revokeAll(user.getId());
                 return true;
             }
         }
@@ -0,0 +1,62 @@
+package org.example.cloudservice.service.Impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.entity.BlobEntity;
+import org.example.cloudservice.entity.ContentCodec;
+import org.example.cloudservice.repository.BlobRepository;
+import org.example.cloudservice.service.BlobService;
+import org.example.cloudservice.service.StorageService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BlobServiceImpl implements BlobService {
+    private final BlobRepository blobRepository;
+    private final StorageService storageService;
+
+    @Override
+    public void acquire(String hash, long oid, long size, ContentCodec codec, long storedSize) {
+        Long content = blobRepository.acquire(hash, oid, size, codec.name(), storedSize);
+        if (content != oid) {
+            storageService.delete(oid);
+            log.info("Blob {} is already stored, duplicate content dropped", hash);
+        }
+    }
+
+    @Override
+    public boolean acquireExisting(String hash) {
+        return blobRepository.incrementRefCount(hash) > 0;
+    }
+
+    @Override
+    public void release(String hash) {
+        blobRepository.decrementRefCount(hash);
+    }
+
+    @Override
+    public void releaseAll(Collection<String> hashes) {
+        hashes.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((count, group) -> blobRepository.decrementRefCounts(group, count.intValue()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BlobEntity getBlob(String hash) {
+        return blobRepository.findById(hash)
+                .orElseThrow(() -> new IllegalStateException("Blob not found: " + hash));
+    }
+}
@@ -1,29 +1,46 @@
 package org.example.cloudservice.service.Impl;
 
 
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.example.cloudservice.dto.BatchResultDto;
 import org.example.cloudservice.dto.FileDto;
+import org.example.cloudservice.dto.FileSearchCriteria;
+import org.example.cloudservice.dto.RenameDto;
+import org.example.cloudservice.entity.BlobEntity;
+import org.example.cloudservice.entity.ContentCodec;
 import org.example.cloudservice.entity.FileEntity;
 import org.example.cloudservice.entity.UserEntity;
 import org.example.cloudservice.exception.ErrorInputDataException;
+import org.example.cloudservice.metrics.CloudMetrics;
 import org.example.cloudservice.repository.FileRepository;
-import org.example.cloudservice.security.JwtTokenProvider;
+import org.example.cloudservice.service.BlobService;
 import org.example.cloudservice.service.CloudService;
+import org.example.cloudservice.service.CompressionService;
+import org.example.cloudservice.service.ContentCacheService;
+import org.example.cloudservice.service.QuotaService;
+import org.example.cloudservice.service.StorageService;
+import org.example.cloudservice.util.JwtTokenUtil;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.MessageDigest;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -34,7 +51,12 @@ import java.util.stream.Collectors;
 public class CloudServiceImpl implements CloudService {
     private final MessageSource messageSource;
     private final FileRepository fileRepository;
-    private final JwtTokenProvider jwtProvider;
+    private final StorageService storageService;
+    private final BlobService blobService;
+    private final CompressionService compressionService;
+    private final ContentCacheService contentCacheService;
+    private final QuotaService quotaService;
+    private final CloudMetrics metrics;
 
     @Override
     public void uploadFile(String fileName, @NonNull MultipartFile file) {
@@ -43,63 +65,268 @@ public class CloudServiceImpl implements CloudService {
             return;
         }
 
-        Long userId = jwtProvider.getAuthorizedUser().getId();
+        uploadFile(fileName, file.getContentType(), file.getSize(), file);
+    }
+
+    @Override
+    public void uploadFile(String fileName, String type, long size, @NonNull InputStreamSource content) {
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
 
-        Optional<FileEntity> existingFile = fileRepository.findFileEntityByFileName(fileName);
-        if (existingFile.isPresent()) {
-            handleExistingFile(fileName, userId, existingFile.get());
-        } else {
-            handleNewFile(fileName, userId, file);
+            if (fileRepository.existsFileEntityByUserIdAndFileName(userId, fileName)) {
+                handleDuplicateFile(fileName, userId);
+            } else {
+                handleNewFile(fileName, userId, type, size, content);
+            }
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.UPLOAD, start);
         }
     }
 
-    private void handleEmptyFile(String fileName) {
-        log.error("File not attached: {}", fileName);
-        throw new ErrorInputDataException(
-                messageSource.getMessage("file.upload.error", null, LocaleContextHolder.getLocale()), 400);
-    }
+    @Override
+    public void uploadFile(String fileName, String type, long size, @NonNull InputStreamSource content,
+                           @NonNull String hash) {
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
 
-    private void handleExistingFile(String fileName, Long userId, FileEntity existingFile) {
-        if (existingFile.isDeleted()) {
-            handleDeletedFile(fileName, existingFile);
-        } else {
-            handleDuplicateFile(fileName, userId);
+            if (fileRepository.existsFileEntityByUserIdAndFileName(userId, fileName)) {
+                handleDuplicateFile(fileName, userId);
+            } else {
+                handleHashedFile(fileName, userId, type, size, content, hash);
+            }
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.UPLOAD, start);
         }
     }
 
-    private void handleDeletedFile(String fileName, FileEntity deletedFile) {
-        deletedFile.setDeleted(false);
-        fileRepository.save(deletedFile);
-        log.info("File {} marked for deletion, updated to not deleted", fileName);
+    private void handleEmptyFile(String fileName) {
+        log.debug("File not attached: {}", fileName);
+        throw new ErrorInputDataException(
+                messageSource.getMessage("file.upload.error", null, LocaleContextHolder.getLocale()), 400);
     }
 
     private void handleDuplicateFile(String fileName, Long userId) {
-        log.error("File with name {} already exists. Please upload another file", fileName);
+        log.debug("File with name {} already exists. Please upload another file", fileName);
         throw new ErrorInputDataException(
                 messageSource.getMessage("file.uploaded.error", null, LocaleContextHolder.getLocale()), userId);
     }
 
-    private void handleNewFile(String fileName, Long userId, MultipartFile file) {
+    private void handleNewFile(String fileName, Long userId, String type, long size, InputStreamSource content) {
+        try {
+            String hash = storeContent(type, size, content);
+            saveFile(fileName, userId, type, size, hash);
+        } catch (IOException e) {
+            handleFileProcessingError(fileName, userId);
+        }
+    }
+
+    private String storeContent(String type, long size, InputStreamSource content) throws IOException {
+        long oid = storageService.create();
+        String hash;
+        ContentCodec codec;
+        try (BufferedInputStream in = new BufferedInputStream(content.getInputStream())) {
+            codec = compressionService.chooseCodec(type, size, in);
+            try (OutputStream out = compressionService.encode(codec, storageService.openOutputStream(oid))) {
+                hash = calculateFileHash(in, out, metrics.hashTimer());
+            }
+        } catch (IOException e) {
+            discardContent(oid, e);
+            throw e;
+        }
+        acquireBlob(hash, oid, size, codec);
+        return hash;
+    }
+
+    private void handleHashedFile(String fileName, Long userId, String type, long size, InputStreamSource content,
+                                  String hash) {
         try {
-            String hash = calculateFileHash(file);
-            byte[] fileBytes = file.getBytes();
-
-            fileRepository.save(FileEntity.builder()
-                    .hash(hash)
-                    .fileName(fileName)
-                    .type(file.getContentType())
-                    .size(file.getSize())
-                    .fileBytes(fileBytes)
-                    .createdDate(LocalDateTime.now())
-                    .user(UserEntity.builder().id(userId).build())
-                    .build());
-
-            log.info("File {} created and saved to storage", fileName);
+            if (!blobService.acquireExisting(hash)) {
+                long oid = storageService.create();
+                ContentCodec codec;
+                try (BufferedInputStream in = new BufferedInputStream(content.getInputStream())) {
+                    codec = compressionService.chooseCodec(type, size, in);
+                    try (OutputStream out = compressionService.encode(codec, storageService.openOutputStream(oid))) {
+                        in.transferTo(out);
+                    }
+                } catch (IOException e) {
+                    discardContent(oid, e);
+                    throw e;
+                }
+                acquireBlob(hash, oid, size, codec);
+            }
+            saveFile(fileName, userId, type, size, hash);
         } catch (IOException e) {
             handleFileProcessingError(fileName, userId);
         }
     }
 
+    private void discardContent(long oid, IOException cause) {
+        try {
+            storageService.delete(oid);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void acquireBlob(String hash, long oid, long size, ContentCodec codec) {
+        long storedSize = codec == ContentCodec.IDENTITY ? size : storageService.size(oid);
+        blobService.acquire(hash, oid, size, codec, storedSize);
+    }
+
+    private void saveFile(String fileName, Long userId, String type, long size, String hash) {
+        quotaService.reserve(userId, size, 1);
+        fileRepository.save(createFileEntity(fileName, userId, type, size, hash));
+        metrics.recordUploadedBytes(size);
+
+        log.debug("File {} created and saved to storage", fileName);
+    }
+
+    private FileEntity createFileEntity(String fileName, Long userId, String type, long size, String hash) {
+        return FileEntity.builder()
+                .hash(hash)
+                .fileName(fileName)
+                .type(type)
+                .size(size)
+                .createdDate(LocalDateTime.now())
+                .user(UserEntity.builder().id(userId).build())
+                .build();
+    }
+
+    @Override
+    public List<BatchResultDto> uploadFiles(@NonNull List<MultipartFile> files) {
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
+            Set<String> taken = new HashSet<>(fileRepository.findFileNamesByUserIdAndFileNameIn(userId,
+                    files.stream().map(MultipartFile::getOriginalFilename).toList()));
+
+            long available = quotaService.getAvailable(userId);
+
+            List<BatchResultDto> results = new ArrayList<>(files.size());
+            List<FileEntity> entities = new ArrayList<>(files.size());
+            long reserved = 0;
+            for (MultipartFile file : files) {
+                String fileName = file.getOriginalFilename();
+                if (file.isEmpty()) {
+                    results.add(failure(fileName, "file.upload.error"));
+                } else if (!taken.add(fileName)) {
+                    results.add(failure(fileName, "file.uploaded.error"));
+                } else if (reserved + file.getSize() > available) {
+                    results.add(failure(fileName, "storage.quota.error"));
+                } else {
+                    try {
+                        String hash = storeContent(file.getContentType(), file.getSize(), file);
+                        entities.add(createFileEntity(fileName, userId, file.getContentType(), file.getSize(), hash));
+                        reserved += file.getSize();
+                        results.add(success(fileName));
+                    } catch (IOException e) {
+                        log.error("File processing error: {}", fileName);
+                        results.add(failure(fileName, "file.process.error"));
+                    }
+                }
+            }
+            if (!entities.isEmpty()) {
+                quotaService.reserve(userId, reserved, entities.size());
+            }
+            fileRepository.saveAll(entities);
+            entities.forEach(entity -> metrics.recordUploadedBytes(entity.getSize()));
+
+            log.debug("Batch upload of {} files by userID {}", entities.size(), userId);
+            return results;
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.BATCH_UPLOAD, start);
+        }
+    }
+
+    @Override
+    public List<BatchResultDto> deleteFiles(@NonNull List<String> fileNames) {
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
+            Map<String, FileEntity> files = getFilesByFileNames(fileNames, userId);
+
+            List<BatchResultDto> results = new ArrayList<>(fileNames.size());
+            List<Long> ids = new ArrayList<>(files.size());
+            List<String> hashes = new ArrayList<>(files.size());
+            long released = 0;
+            for (String fileName : fileNames) {
+                FileEntity file = files.remove(fileName);
+                if (file == null) {
+                    results.add(failure(fileName, "file.exist.error"));
+                } else {
+                    ids.add(file.getId());
+                    hashes.add(file.getHash());
+                    released += file.getSize();
+                    results.add(success(fileName));
+                }
+            }
+            if (!ids.isEmpty()) {
+                fileRepository.softDeleteByIdIn(ids, LocalDateTime.now());
+                quotaService.release(userId, released, ids.size());
+                blobService.releaseAll(hashes);
+            }
+
+            log.debug("Batch delete of {} files by userID {}", ids.size(), userId);
+            return results;
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.BATCH_DELETE, start);
+        }
+    }
+
+    @Override
+    public List<BatchResultDto> renameFiles(@NonNull List<RenameDto> renames) {
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
+            Map<String, FileEntity> files = getFilesByFileNames(renames.stream().map(RenameDto::fileName).toList(),
+                    userId);
+            Set<String> taken = new HashSet<>(fileRepository.findFileNamesByUserIdAndFileNameIn(userId,
+                    renames.stream().map(RenameDto::newFileName).toList()));
+
+            List<BatchResultDto> results = new ArrayList<>(renames.size());
+            List<FileEntity> renamed = new ArrayList<>(renames.size());
+            for (RenameDto rename : renames) {
+                FileEntity file = files.remove(rename.fileName());
+                if (file == null) {
+                    results.add(failure(rename.fileName(), "file.exist.error"));
+                } else if (!taken.add(rename.newFileName())) {
+                    results.add(failure(rename.fileName(), "file.uploaded.error"));
+                } else {
+                    file.setFileName(rename.newFileName());
+                    renamed.add(file);
+                    results.add(success(rename.fileName()));
+                }
+            }
+            fileRepository.saveAll(renamed);
+
+            log.debug("Batch rename of {} files by userID {}", renamed.size(), userId);
+            return results;
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.BATCH_RENAME, start);
+        }
+    }
+
+    private Map<String, FileEntity> getFilesByFileNames(List<String> fileNames, Long userId) {
+        return fileRepository.findFileEntitiesByUserIdAndFileNameIn(userId, fileNames).stream()
+                .collect(Collectors.toMap(FileEntity::getFileName, Function.identity(), (a, b) -> a, HashMap::new));
+    }
+
+    private BatchResultDto success(String fileName) {
+        return BatchResultDto.builder()
+                .fileName(fileName)
+                .success(true)
+                .build();
+    }
+
+    private BatchResultDto failure(String fileName, String messageKey) {
+        return BatchResultDto.builder()
+                .fileName(fileName)
+                .error(messageSource.getMessage(messageKey, null, LocaleContextHolder.getLocale()))
+                .build();
+    }
+
     private void handleFileProcessingError(String fileName, Long userId) {
         log.error("File processing error: {}", fileName);
         throw new ErrorInputDataException(
@@ -109,85 +336,173 @@ public class CloudServiceImpl implements CloudService {
 
     @Override
     public void deleteFile(String fileName) {
-        Long userId = jwtProvider.getAuthorizedUser().getId();
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
 
-        FileEntity file = getFileByFileName(fileName, userId);
-        file.setDeleted(true);
-        file.setCreatedDate(LocalDateTime.now());
+            FileEntity file = getFileByFileName(fileName, userId);
+            file.setDeleted(true);
+            file.setCreatedDate(LocalDateTime.now());
 
-        log.info("Set flag isDelete on file from storage " +
-                "by file name {} and userID {}", file.getFileName(), userId);
-        fileRepository.save(file);
+            log.debug("Set flag isDelete on file from storage " +
+                    "by file name {} and userID {}", file.getFileName(), userId);
+            fileRepository.save(file);
+            quotaService.release(userId, file.getSize(), 1);
+            blobService.release(file.getHash());
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.DELETE, start);
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public FileDto downloadFile(String fileName) {
-        Long userId = jwtProvider.getAuthorizedUser().getId();
+        Long userId = JwtTokenUtil.getAuthorizedUserId();
         FileEntity file = getFileByFileName(fileName, userId);
 
-        log.info("Download file: {}", fileName);
-        return FileDto.builder()
-                .fileName(file.getFileName())
-                .type(file.getType())
-                .fileBytes(file.getFileBytes())
-                .build();
+        log.debug("Download file: {}", fileName);
+        return mapFileEntityToDto(file, blobService.getBlob(file.getHash()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void transferFile(String fileName, long offset, long length, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
+            FileEntity file = getFileByFileName(fileName, userId);
+
+            BlobEntity blob = blobService.getBlob(file.getHash());
+            if (blob.getCodec() == ContentCodec.IDENTITY) {
+                contentCacheService.transferTo(blob, offset, length, out);
+            } else {
+                try (InputStream in = compressionService.decode(blob.getCodec(),
+                        contentCacheService.openInputStream(blob))) {
+                    in.skipNBytes(offset);
+                    copy(in, out, length);
+                }
+            }
+            metrics.recordDownloadedBytes(length);
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.DOWNLOAD, start);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void transferStoredFile(String fileName, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
+            FileEntity file = getFileByFileName(fileName, userId);
+
+            BlobEntity blob = blobService.getBlob(file.getHash());
+            contentCacheService.transferTo(blob, 0, blob.getStoredSize(), out);
+            metrics.recordDownloadedBytes(blob.getStoredSize());
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.DOWNLOAD, start);
+        }
     }
 
     @Override
     public void editFileName(String fileName, FileDto fileDTO) {
-        Long userId = jwtProvider.getAuthorizedUser().getId();
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
+
+            if (fileRepository.existsFileEntityByUserIdAndFileName(userId, fileDTO.fileName())) {
+                log.debug("File with name {} already exists. Please upload another file", fileName);
+                throw new ErrorInputDataException(messageSource.getMessage("file.uploaded.error", null,
+                        LocaleContextHolder.getLocale()), userId);
+            }
+
+            FileEntity file = getFileByFileName(fileName, userId);
+            file.setFileName(fileDTO.fileName());
 
-        Optional<FileEntity> existingFileWithNewName = fileRepository.findFileEntityByFileName(fileDTO.fileName());
-        if (existingFileWithNewName.isPresent()) {
-            log.error("File with name {} already exists. Please upload another file", fileName);
-            throw new ErrorInputDataException(messageSource.getMessage("file.uploaded.error", null,
-                    LocaleContextHolder.getLocale()), userId);
+            log.debug("Edit name file: {} to {}", fileName, fileDTO.fileName());
+            fileRepository.save(file);
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.RENAME, start);
         }
+    }
 
-        FileEntity file = getFileByFileName(fileName, userId);
-        file.setFileName(fileDTO.fileName());
+    @Override
+    @Transactional(readOnly = true)
+    public List<FileDto> getFileList(int limit, String after) {
+        if (limit < 1) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
 
-        log.info("Edit name file: {} to {}", fileName, fileDTO.fileName());
-        fileRepository.save(file);
+            return fileRepository.findFileInfoByUserIdAfter(userId, after, PageRequest.ofSize(limit));
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.LIST, start);
+        }
     }
 
     @Override
-    public List<FileDto> getFileList(int limit) {
-        Long userId = jwtProvider.getAuthorizedUser().getId();
+    @Transactional(readOnly = true)
+    public List<FileDto> searchFiles(@NonNull FileSearchCriteria criteria, int limit, String after) {
+        if (limit < 1) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        try {
+            Long userId = JwtTokenUtil.getAuthorizedUserId();
 
-        List<FileEntity> filesByUserIdWithLimit = fileRepository.findFilesByUserIdWithLimit(userId, limit);
-        return filesByUserIdWithLimit.stream()
-                .filter(file -> !file.isDeleted())
-                .map(this::mapFileEntityToDto)
-                .collect(Collectors.toList());
+            return fileRepository.searchFiles(userId, criteria, after, limit);
+        } finally {
+            metrics.recordOperation(CloudMetrics.Operation.SEARCH, start);
+        }
     }
 
-    private FileDto mapFileEntityToDto(FileEntity file) {
+    private FileDto mapFileEntityToDto(FileEntity file, BlobEntity blob) {
         return FileDto.builder()
                 .fileName(file.getFileName())
                 .hash(file.getHash())
                 .type(file.getType())
                 .date(file.getCreatedDate())
                 .size(file.getSize())
-                .fileBytes(file.getFileBytes())
+                .codec(blob.getCodec())
+                .storedSize(blob.getStoredSize())
                 .build();
     }
 
-    private String calculateFileHash(MultipartFile file) throws IOException {
-        MessageDigest md = DigestUtils.getSha256Digest();
-        try (InputStream fis = file.getInputStream()) {
-            byte[] buffer = new byte[8192];
-            int read;
-            while ((read = fis.read(buffer)) != -1) {
-                md.update(buffer, 0, read);
+    private static void copy(InputStream in, OutputStream out, long length) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = length;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                break;
             }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    static String calculateFileHash(InputStream in, OutputStream out, Timer hashTimer) throws IOException {
+        MessageDigest md = DigestUtils.getSha256Digest();
+        byte[] buffer = new byte[8192];
+        long hashNanos = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            long start = System.nanoTime();
+            md.update(buffer, 0, read);
+            hashNanos += System.nanoTime() - start;
+            out.write(buffer, 0, read);
         }
-        return DigestUtils.sha256Hex(md.digest());
+        long start = System.nanoTime();
+        String hash = DigestUtils.sha256Hex(md.digest());
+        hashTimer.record(hashNanos + System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return hash;
     }
 
     private FileEntity getFileByFileName(String fileName, Long userId) {
         final var message = messageSource.getMessage("file.exist.error", null, LocaleContextHolder.getLocale());
-        return fileRepository.findFileEntityByFileName(fileName)
+        return fileRepository.findFileEntityByUserIdAndFileName(userId, fileName)
                 .orElseThrow(() -> new ErrorInputDataException(message, userId));
     }
 }
@@ -0,0 +1,85 @@
+package org.example.cloudservice.service.Impl;
+
+import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.config.CompressionProperties;
+import org.example.cloudservice.entity.ContentCodec;
+import org.example.cloudservice.service.CompressionService;
+import org.springframework.stereotype.Service;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class CompressionServiceImpl implements CompressionService {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final CompressionProperties compressionProperties;
+
+    @Override
+    public ContentCodec chooseCodec(String type, long size, BufferedInputStream in) throws IOException {
+        if (!compressionProperties.isEnabled() || size < compressionProperties.getMinSize()
+                || !isCompressibleType(type)) {
+            return ContentCodec.IDENTITY;
+        }
+        return isCompressible(probe(in)) ? ContentCodec.GZIP : ContentCodec.IDENTITY;
+    }
+
+    @Override
+    public OutputStream encode(ContentCodec codec, OutputStream out) throws IOException {
+        return codec == ContentCodec.GZIP ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+    }
+
+    @Override
+    public InputStream decode(ContentCodec codec, InputStream in) throws IOException {
+        return codec == ContentCodec.GZIP ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    private boolean isCompressibleType(String type) {
+        if (type == null) {
+            return false;
+        }
+        try {
+            MimeType mimeType = MimeTypeUtils.parseMimeType(type);
+            return compressionProperties.getTypes().stream()
+                    .map(MimeTypeUtils::parseMimeType)
+                    .anyMatch(compressible -> compressible.includes(mimeType));
+        } catch (InvalidMimeTypeException e) {
+            return false;
+        }
+    }
+
+    private byte[] probe(BufferedInputStream in) throws IOException {
+        in.mark(compressionProperties.getProbeSize());
+        byte[] sample = in.readNBytes(compressionProperties.getProbeSize());
+        in.reset();
+        return sample;
+    }
+
+    private boolean isCompressible(byte[] sample) {
+        if (sample.length == 0) {
+            return false;
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(sample);
+            deflater.finish();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long compressed = 0;
+            while (!deflater.finished()) {
+                compressed += deflater.deflate(buffer);
+            }
+            return (double) compressed / sample.length <= compressionProperties.getMaxRatio();
+        } finally {
+            deflater.end();
+        }
+    }
+}
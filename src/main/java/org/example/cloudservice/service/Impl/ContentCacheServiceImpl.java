@@ -0,0 +1,159 @@
+package org.example.cloudservice.service.Impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.config.DownloadCacheProperties;
+import org.example.cloudservice.entity.BlobEntity;
+import org.example.cloudservice.service.ContentCacheService;
+import org.example.cloudservice.service.StorageService;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+@Slf4j
+@Service
+public class ContentCacheServiceImpl implements ContentCacheService {
+    private static final String CACHE_NAME = "blob.content";
+
+    private final StorageService storageService;
+    private final DownloadCacheProperties downloadCacheProperties;
+    private final Cache<ContentKey, ByteBuffer> contents;
+    private final Counter servedBytes;
+
+    public ContentCacheServiceImpl(StorageService storageService, DownloadCacheProperties downloadCacheProperties,
+                                   MeterRegistry meterRegistry) {
+        this.storageService = storageService;
+        this.downloadCacheProperties = downloadCacheProperties;
+        Cache<ContentKey, ByteBuffer> cache = Caffeine.newBuilder()
+                .maximumWeight(downloadCacheProperties.getMaxSize().toBytes())
+                .weigher((ContentKey key, ByteBuffer content) -> content.capacity())
+                .recordStats()
+                .build();
+        this.contents = CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.servedBytes = Counter.builder("cache.served")
+                .baseUnit("bytes")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        if (downloadCacheProperties.isEnabled()) {
+            checkDirectMemoryLimit(downloadCacheProperties.getMaxSize());
+        }
+    }
+
+    @Override
+    public void transferTo(BlobEntity blob, long offset, long length, OutputStream out) throws IOException {
+        ByteBuffer content = getContent(blob);
+        if (content == null) {
+            storageService.transferTo(blob.getContentOid(), offset, length, out);
+            return;
+        }
+        ByteBuffer range = content.duplicate();
+        range.position(Math.toIntExact(offset));
+        range.limit(Math.toIntExact(Math.min(content.limit(), offset + length)));
+        servedBytes.increment(range.remaining());
+        Channels.newChannel(out).write(range);
+    }
+
+    @Override
+    public InputStream openInputStream(BlobEntity blob) throws IOException {
+        ByteBuffer content = getContent(blob);
+        if (content == null) {
+            return storageService.openInputStream(blob.getContentOid());
+        }
+        servedBytes.increment(content.limit());
+        return new ByteBufferInputStream(content.duplicate());
+    }
+
+    @Override
+    public void invalidate(String hash, long contentOid) {
+        contents.invalidate(new ContentKey(hash, contentOid));
+    }
+
+    private ByteBuffer getContent(BlobEntity blob) throws IOException {
+        if (!isCacheable(blob)) {
+            return null;
+        }
+        try {
+            return contents.get(new ContentKey(blob.getHash(), blob.getContentOid()), key -> load(blob));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private boolean isCacheable(BlobEntity blob) {
+        return downloadCacheProperties.isEnabled()
+                && blob.getStoredSize() <= downloadCacheProperties.getMaxEntrySize().toBytes();
+    }
+
+    private static void checkDirectMemoryLimit(DataSize maxSize) {
+        HotSpotDiagnosticMXBean diagnostics = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        if (diagnostics == null) {
+            return;
+        }
+        long limit = Long.parseLong(diagnostics.getVMOption("MaxDirectMemorySize").getValue());
+        if (limit == 0) {
+            log.warn("-XX:MaxDirectMemorySize is not set, evicted cache buffers are bounded only by the heap size");
+        } else if (limit < maxSize.toBytes()) {
+            log.warn("-XX:MaxDirectMemorySize={} is below download.cache.max-size={}", limit, maxSize.toBytes());
+        }
+    }
+
+    private ByteBuffer load(BlobEntity blob) {
+        ByteBuffer content = ByteBuffer.allocateDirect(Math.toIntExact(blob.getStoredSize()));
+        try (ReadableByteChannel channel = Channels.newChannel(storageService.openInputStream(blob.getContentOid()))) {
+            while (content.hasRemaining()) {
+                if (channel.read(content) == -1) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        content.flip();
+        log.debug("Blob {} cached, {} bytes", blob.getHash(), content.limit());
+        return content.asReadOnlyBuffer();
+    }
+
+    private record ContentKey(String hash, long contentOid) {
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
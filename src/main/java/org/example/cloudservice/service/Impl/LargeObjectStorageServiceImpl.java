@@ -0,0 +1,139 @@
+package org.example.cloudservice.service.Impl;
+
+import lombok.RequiredArgsConstructor;
+import org.example.cloudservice.metrics.CloudMetrics;
+import org.example.cloudservice.service.StorageService;
+import org.postgresql.PGConnection;
+import org.postgresql.largeobject.LargeObject;
+import org.postgresql.largeobject.LargeObjectManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.SQLException;
+
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+@RequiredArgsConstructor
+public class LargeObjectStorageServiceImpl implements StorageService {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CloudMetrics metrics;
+
+    @Override
+    public long create() {
+        return execute(lom -> lom.createLO(LargeObjectManager.READWRITE));
+    }
+
+    @Override
+    public OutputStream openOutputStream(long oid) {
+        return new TimedOutputStream(execute(lom -> lom.open(oid, LargeObjectManager.WRITE).getOutputStream()));
+    }
+
+    @Override
+    public InputStream openInputStream(long oid) {
+        return execute(lom -> lom.open(oid, LargeObjectManager.READ).getInputStream());
+    }
+
+    @Override
+    public void transferTo(long oid, long offset, long length, OutputStream out) throws IOException {
+        LargeObject lo = execute(lom -> lom.open(oid, LargeObjectManager.READ));
+        try {
+            lo.seek64(offset, LargeObject.SEEK_SET);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = length;
+            long readNanos = 0;
+            while (remaining > 0) {
+                long start = System.nanoTime();
+                int read = lo.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                readNanos += System.nanoTime() - start;
+                if (read <= 0) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+            metrics.recordStorage(CloudMetrics.StorageOperation.READ, readNanos);
+        } catch (SQLException e) {
+            throw new IOException("Failed to read large object " + oid, e);
+        } finally {
+            close(lo);
+        }
+    }
+
+    @Override
+    public long size(long oid) {
+        LargeObject lo = execute(lom -> lom.open(oid, LargeObjectManager.READ));
+        try {
+            return lo.size64();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read size of large object " + oid, e);
+        } finally {
+            close(lo);
+        }
+    }
+
+    @Override
+    public void delete(long oid) {
+        execute(lom -> {
+            lom.delete(oid);
+            return null;
+        });
+    }
+
+    private void close(LargeObject lo) {
+        try {
+            lo.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private <T> T execute(LargeObjectCallback<T> callback) {
+        return jdbcTemplate.execute((ConnectionCallback<T>) connection ->
+                callback.doWith(connection.unwrap(PGConnection.class).getLargeObjectAPI()));
+    }
+
+    @FunctionalInterface
+    private interface LargeObjectCallback<T> {
+        T doWith(LargeObjectManager lom) throws SQLException;
+    }
+
+    private class TimedOutputStream extends FilterOutputStream {
+        private long writeNanos;
+
+        private TimedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            long start = System.nanoTime();
+            out.write(b);
+            writeNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            out.write(b, off, len);
+            writeNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void close() throws IOException {
+            long start = System.nanoTime();
+            try {
+                out.close();
+            } finally {
+                metrics.recordStorage(CloudMetrics.StorageOperation.WRITE, writeNanos + System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.cloudservice.service.Impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.config.PurgeProperties;
+import org.example.cloudservice.metrics.CloudMetrics;
+import org.example.cloudservice.repository.BlobRepository;
+import org.example.cloudservice.repository.FileRepository;
+import org.example.cloudservice.service.ContentCacheService;
+import org.example.cloudservice.service.PurgeService;
+import org.example.cloudservice.service.StorageService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurgeServiceImpl implements PurgeService {
+    private static final long ORPHAN_SWEEP_LOCK = 0x6f727068616e73L;
+
+    private final FileRepository fileRepository;
+    private final BlobRepository blobRepository;
+    private final StorageService storageService;
+    private final ContentCacheService contentCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final CloudMetrics metrics;
+    private final PurgeProperties properties;
+
+    @Scheduled(fixedDelayString = "${purge.interval}")
+    public void purge() {
+        purgeDeletedFiles();
+        purgeUnreferencedBlobs();
+    }
+
+    @Override
+    public int purgeDeletedFiles() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(properties.getRetention());
+        int purged = inBatches(status -> {
+            int deleted = fileRepository.deleteSoftDeletedBefore(deletedBefore, properties.getBatchSize());
+            metrics.recordPurgedFiles(deleted);
+            return deleted;
+        });
+        if (purged > 0) {
+            log.info("Purged {} files deleted before {}", purged, deletedBefore);
+        }
+        return purged;
+    }
+
+    @Override
+    public int purgeUnreferencedBlobs() {
+        int purged = inBatches(status -> {
+            List<Object[]> freed = blobRepository.deleteUnreferenced(properties.getBatchSize());
+            for (Object[] blob : freed) {
+                String hash = (String) blob[0];
+                long contentOid = ((Number) blob[1]).longValue();
+                storageService.delete(contentOid);
+                afterCommit(() -> contentCacheService.invalidate(hash, contentOid));
+                metrics.recordReclaimedObject(CloudMetrics.PurgeSource.BLOB, ((Number) blob[2]).longValue());
+            }
+            return freed.size();
+        });
+        if (purged > 0) {
+            log.info("Freed content of {} unreferenced blobs", purged);
+        }
+        return purged;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${purge.orphan-interval}")
+    public int sweepOrphanedObjects() {
+        int swept = inBatches(status -> {
+            if (!blobRepository.tryAdvisoryLock(ORPHAN_SWEEP_LOCK)) {
+                return 0;
+            }
+            List<Long> orphans = blobRepository.findOrphanedContent(properties.getBatchSize());
+            for (Long oid : orphans) {
+                long size = storageService.size(oid);
+                storageService.delete(oid);
+                metrics.recordReclaimedObject(CloudMetrics.PurgeSource.ORPHAN, size);
+            }
+            return orphans.size();
+        });
+        if (swept > 0) {
+            log.warn("Unlinked {} orphaned large objects", swept);
+        }
+        return swept;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private int inBatches(TransactionCallback<Integer> batch) {
+        int total = 0;
+        for (int i = 0; i < properties.getMaxBatches(); i++) {
+            Integer processed = transactionTemplate.execute(batch);
+            if (processed == null) {
+                break;
+            }
+            total += processed;
+            if (processed < properties.getBatchSize() || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getBatchDelay().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.cloudservice.service.Impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.config.QuotaProperties;
+import org.example.cloudservice.dto.StorageUsageDto;
+import org.example.cloudservice.entity.UserStorageEntity;
+import org.example.cloudservice.exception.QuotaExceededException;
+import org.example.cloudservice.repository.UserStorageRepository;
+import org.example.cloudservice.service.QuotaService;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class QuotaServiceImpl implements QuotaService {
+    private final MessageSource messageSource;
+    private final UserStorageRepository userStorageRepository;
+    private final QuotaProperties properties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void checkAvailable(Long userId, long bytes) {
+        if (bytes > getAvailable(userId)) {
+            handleQuotaExceeded(userId, bytes);
+        }
+    }
+
+    @Override
+    public void reserve(Long userId, long bytes, int files) {
+        long defaultQuota = properties.getDefaultSize().toBytes();
+        if (bytes > defaultQuota && !userStorageRepository.existsById(userId)
+                || userStorageRepository.reserve(userId, bytes, files, defaultQuota) == 0) {
+            handleQuotaExceeded(userId, bytes);
+        }
+    }
+
+    @Override
+    public void release(Long userId, long bytes, int files) {
+        userStorageRepository.release(userId, bytes, files);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getAvailable(Long userId) {
+        return userStorageRepository.findById(userId)
+                .map(usage -> getQuota(usage) - usage.getUsedBytes())
+                .orElseGet(() -> properties.getDefaultSize().toBytes());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StorageUsageDto> getUsage() {
+        return userStorageRepository.findAllUsage(properties.getDefaultSize().toBytes());
+    }
+
+    private long getQuota(UserStorageEntity usage) {
+        return usage.getQuotaBytes() != null ? usage.getQuotaBytes() : properties.getDefaultSize().toBytes();
+    }
+
+    private void handleQuotaExceeded(Long userId, long bytes) {
+        log.debug("Storage quota exceeded by userID {} for {} bytes", userId, bytes);
+        throw new QuotaExceededException(
+                messageSource.getMessage("storage.quota.error", null, LocaleContextHolder.getLocale()), userId);
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.cloudservice.service.Impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.example.cloudservice.config.JwtTokenConfig;
+import org.example.cloudservice.entity.RefreshTokenEntity;
+import org.example.cloudservice.exception.ErrorInputDataException;
+import org.example.cloudservice.repository.RefreshTokenRepository;
+import org.example.cloudservice.service.RefreshTokenService;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final MessageSource messageSource;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenConfig jwtTokenConfig;
+
+    @Override
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID());
+    }
+
+    @Override
+    public String issue(Long userId, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+                .tokenHash(hash(refreshToken))
+                .userId(userId)
+                .familyId(familyId)
+                .createdDate(now)
+                .expiresAt(now.plus(jwtTokenConfig.getRefreshExpiration()))
+                .build());
+        return refreshToken;
+    }
+
+    @Override
+    @Transactional(noRollbackFor = ErrorInputDataException.class)
+    public RefreshTokenEntity consume(String refreshToken) {
+        RefreshTokenEntity token = refreshTokenRepository.findForUpdate(hash(refreshToken))
+                .orElseThrow(this::invalidToken);
+        if (token.isUsed()) {
+            refreshTokenRepository.deleteByFamilyId(token.getFamilyId());
+            log.warn("Refresh token reuse detected for userID {}, token family revoked", token.getUserId());
+            throw invalidToken();
+        }
+        if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw invalidToken();
+        }
+        token.setUsed(true);
+        return token;
+    }
+
+    @Override
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findById(hash(refreshToken)).ifPresent(token -> {
+            refreshTokenRepository.deleteByFamilyId(token.getFamilyId());
+            log.info("Refresh token family revoked for userID {}", token.getUserId());
+        });
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.deleteByUserId(userId);
+        if (revoked > 0) {
+            log.info("Revoked {} refresh tokens of userID {}", revoked, userId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh.cleanup-interval}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private ErrorInputDataException invalidToken() {
+        return new ErrorInputDataException(
+                messageSource.getMessage("token.refresh.error", null, LocaleContextHolder.getLocale()), 0);
+    }
+
+    private static String hash(String refreshToken) {
+        return DigestUtils.sha256Hex(refreshToken);
+    }
+}
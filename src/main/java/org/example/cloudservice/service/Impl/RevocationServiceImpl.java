@@ -0,0 +1,70 @@
+package org.example.cloudservice.service.Impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cloudservice.entity.RevokedTokenEntity;
+import org.example.cloudservice.repository.RevokedTokenRepository;
+import org.example.cloudservice.service.RevocationService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevocationServiceImpl implements RevocationService {
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private volatile long watermark;
+
+    @Override
+    @Transactional
+    public void revoke(String jti, Date expiration) {
+        revokedTokens.put(jti, expiration.getTime());
+        revokedTokenRepository.revoke(jti, LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()));
+        log.info("Token {} revoked", jti);
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return jti != null && revokedTokens.containsKey(jti);
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval}")
+    public void refresh() {
+        long xmin = revokedTokenRepository.findSnapshotXmin();
+        List<RevokedTokenEntity> tokens = revokedTokenRepository.findRevokedSince(watermark, LocalDateTime.now());
+
+        tokens.forEach(token -> revokedTokens.put(token.getJti(), toEpochMilli(token.getExpiresAt())));
+        watermark = xmin;
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.revocation.eviction-interval}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiration -> expiration < now);
+
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired token revocations", deleted);
+        }
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.cloudservice.service.Impl;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.example.cloudservice.config.UploadSessionProperties;
+import org.example.cloudservice.dto.UploadSessionDto;
+import org.example.cloudservice.entity.UploadChunkEntity;
+import org.example.cloudservice.entity.UploadSessionEntity;
+import org.example.cloudservice.entity.UserEntity;
+import org.example.cloudservice.exception.ErrorInputDataException;
+import org.example.cloudservice.repository.UploadChunkRepository;
+import org.example.cloudservice.repository.UploadSessionRepository;
+import org.example.cloudservice.service.CloudService;
+import org.example.cloudservice.service.QuotaService;
+import org.example.cloudservice.service.StorageService;
+import org.example.cloudservice.service.UploadSessionService;
+import org.example.cloudservice.util.JwtTokenUtil;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class UploadSessionServiceImpl implements UploadSessionService {
+    private final MessageSource messageSource;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadChunkRepository uploadChunkRepository;
+    private final StorageService storageService;
+    private final CloudService cloudService;
+    private final QuotaService quotaService;
+    private final UploadSessionProperties properties;
+
+    @Override
+    public UploadSessionDto createSession(String fileName, String type, long size, int chunks) {
+        Long userId = JwtTokenUtil.getAuthorizedUserId();
+        if (size < 1 || chunks < 1 || chunks > properties.getMaxChunks()) {
+            log.debug("Invalid upload session for file {}: size {}, chunks {}", fileName, size, chunks);
+            throw new ErrorInputDataException(getMessage("upload.chunk.error"), userId);
+        }
+        quotaService.checkAvailable(userId, size);
+
+        LocalDateTime now = LocalDateTime.now();
+        UploadSessionEntity session = uploadSessionRepository.save(UploadSessionEntity.builder()
+                .id(UUID.randomUUID())
+                .fileName(fileName)
+                .type(type)
+                .size(size)
+                .chunkCount(chunks)
+                .createdDate(now)
+                .updatedDate(now)
+                .user(UserEntity.builder().id(userId).build())
+                .build());
+
+        log.info("Upload session {} created for file {}", session.getId(), fileName);
+        return mapSessionToDto(session, List.of());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UploadSessionDto getSession(UUID id) {
+        Long userId = JwtTokenUtil.getAuthorizedUserId();
+        UploadSessionEntity session = getSessionById(id, userId);
+
+        return mapSessionToDto(session, uploadChunkRepository.findUploadChunkEntitiesBySessionIdOrderByNumber(id));
+    }
+
+    @Override
+    public void uploadChunk(UUID id, int number, @NonNull String checksum, @NonNull InputStream content) {
+        Long userId = JwtTokenUtil.getAuthorizedUserId();
+        UploadSessionEntity session = getSessionById(id, userId);
+        if (number < 1 || number > session.getChunkCount()) {
+            log.debug("Chunk {} is out of range for upload session {}", number, id);
+            throw new ErrorInputDataException(getMessage("upload.chunk.error"), userId);
+        }
+
+        long oid = storageService.create();
+        MessageDigest md = DigestUtils.getSha256Digest();
+        long size;
+        try (OutputStream out = new DigestOutputStream(storageService.openOutputStream(oid), md)) {
+            size = content.transferTo(out);
+        } catch (IOException e) {
+            log.error("Chunk {} processing error for upload session {}", number, id);
+            throw new ErrorInputDataException(getMessage("file.process.error"), userId);
+        }
+
+        String actualChecksum = Hex.encodeHexString(md.digest());
+        if (!actualChecksum.equalsIgnoreCase(checksum)) {
+            log.debug("Chunk {} checksum mismatch for upload session {}", number, id);
+            throw new ErrorInputDataException(getMessage("upload.checksum.error"), userId);
+        }
+
+        uploadSessionRepository.findForUpdate(id);
+        UploadChunkEntity chunk = uploadChunkRepository.findUploadChunkEntityBySessionIdAndNumber(id, number)
+                .orElseGet(() -> UploadChunkEntity.builder().session(session).number(number).build());
+        if (chunk.getContentOid() != null) {
+            storageService.delete(chunk.getContentOid());
+        }
+        chunk.setContentOid(oid);
+        chunk.setSize(size);
+        chunk.setChecksum(actualChecksum);
+        uploadChunkRepository.save(chunk);
+        session.setUpdatedDate(LocalDateTime.now());
+
+        log.debug("Chunk {} of {} stored for upload session {}", number, session.getChunkCount(), id);
+    }
+
+    @Override
+    public void commitSession(UUID id) {
+        Long userId = JwtTokenUtil.getAuthorizedUserId();
+        UploadSessionEntity session = getSessionById(id, userId);
+
+        List<UploadChunkEntity> chunks = uploadChunkRepository.findUploadChunkEntitiesBySessionIdOrderByNumber(id);
+        long size = chunks.stream().mapToLong(UploadChunkEntity::getSize).sum();
+        if (chunks.size() != session.getChunkCount() || size != session.getSize()) {
+            log.debug("Upload session {} is incomplete: {} of {} chunks, {} of {} bytes",
+                    id, chunks.size(), session.getChunkCount(), size, session.getSize());
+            throw new ErrorInputDataException(getMessage("upload.incomplete.error"), userId);
+        }
+
+        cloudService.uploadFile(session.getFileName(), session.getType(), size, () -> concatenate(chunks));
+        removeSession(session, chunks);
+
+        log.info("Upload session {} committed as file {}", id, session.getFileName());
+    }
+
+    @Override
+    public void deleteSession(UUID id) {
+        Long userId = JwtTokenUtil.getAuthorizedUserId();
+        UploadSessionEntity session = getSessionById(id, userId);
+
+        removeSession(session, uploadChunkRepository.findUploadChunkEntitiesBySessionIdOrderByNumber(id));
+        log.info("Upload session {} deleted", id);
+    }
+
+    @Scheduled(fixedDelayString = "${upload.session.cleanup-interval}")
+    public void deleteExpiredSessions() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(properties.getExpiration());
+        List<UploadSessionEntity> sessions = uploadSessionRepository.findUploadSessionEntitiesByUpdatedDateBefore(
+                expiredBefore, PageRequest.ofSize(properties.getCleanupBatchSize()));
+
+        sessions.forEach(session -> removeSession(session,
+                uploadChunkRepository.findUploadChunkEntitiesBySessionIdOrderByNumber(session.getId())));
+        if (!sessions.isEmpty()) {
+            log.info("Deleted {} expired upload sessions", sessions.size());
+        }
+    }
+
+    private void removeSession(UploadSessionEntity session, List<UploadChunkEntity> chunks) {
+        chunks.forEach(chunk -> storageService.delete(chunk.getContentOid()));
+        uploadChunkRepository.deleteAllInBatch(chunks);
+        uploadSessionRepository.delete(session);
+    }
+
+    private InputStream concatenate(List<UploadChunkEntity> chunks) {
+        Iterator<UploadChunkEntity> iterator = chunks.iterator();
+        return new SequenceInputStream(new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                return storageService.openInputStream(iterator.next().getContentOid());
+            }
+        });
+    }
+
+    private UploadSessionDto mapSessionToDto(UploadSessionEntity session, List<UploadChunkEntity> chunks) {
+        return UploadSessionDto.builder()
+                .id(session.getId())
+                .fileName(session.getFileName())
+                .size(session.getSize())
+                .chunks(session.getChunkCount())
+                .received(chunks.stream().map(UploadChunkEntity::getNumber).toList())
+                .build();
+    }
+
+    private UploadSessionEntity getSessionById(UUID id, Long userId) {
+        final var message = getMessage("upload.session.error");
+        return uploadSessionRepository.findUploadSessionEntityByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ErrorInputDataException(message, userId));
+    }
+
+    private String getMessage(String code) {
+        return messageSource.getMessage(code, null, LocaleContextHolder.getLocale());
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.cloudservice.service;
+
+public interface PurgeService {
+    int purgeDeletedFiles();
+
+    int purgeUnreferencedBlobs();
+
+    int sweepOrphanedObjects();
+}
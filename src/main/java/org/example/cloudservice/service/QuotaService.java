@@ -0,0 +1,17 @@
+package org.example.cloudservice.service;
+
+import org.example.cloudservice.dto.StorageUsageDto;
+
+import java.util.List;
+
+public interface QuotaService {
+    void checkAvailable(Long userId, long bytes);
+
+    void reserve(Long userId, long bytes, int files);
+
+    void release(Long userId, long bytes, int files);
+
+    long getAvailable(Long userId);
+
+    List<StorageUsageDto> getUsage();
+}
@@ -0,0 +1,17 @@
+package org.example.cloudservice.service;
+
+import org.example.cloudservice.entity.RefreshTokenEntity;
+
+import java.util.UUID;
+
+public interface RefreshTokenService {
+    String issue(Long userId);
+
+    String issue(Long userId, UUID familyId);
+
+    RefreshTokenEntity consume(String refreshToken);
+
+    void revoke(String refreshToken);
+
+    void revokeAll(Long userId);
+}
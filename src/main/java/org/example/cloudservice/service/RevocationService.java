@@ -0,0 +1,9 @@
+package org.example.cloudservice.service;
+
+import java.util.Date;
+
+public interface RevocationService {
+    void revoke(String jti, Date expiration);
+
+    boolean isRevoked(String jti);
+}
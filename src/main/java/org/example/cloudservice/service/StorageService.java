@@ -0,0 +1,19 @@
+package org.example.cloudservice.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface StorageService {
+    long create();
+
+    OutputStream openOutputStream(long oid);
+
+    InputStream openInputStream(long oid);
+
+    void transferTo(long oid, long offset, long length, OutputStream out) throws IOException;
+
+    long size(long oid);
+
+    void delete(long oid);
+}
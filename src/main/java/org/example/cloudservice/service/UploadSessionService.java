@@ -0,0 +1,18 @@
+package org.example.cloudservice.service;
+
+import org.example.cloudservice.dto.UploadSessionDto;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface UploadSessionService {
+    UploadSessionDto createSession(String fileName, String type, long size, int chunks);
+
+    UploadSessionDto getSession(UUID id);
+
+    void uploadChunk(UUID id, int number, String checksum, InputStream content);
+
+    void commitSession(UUID id);
+
+    void deleteSession(UUID id);
+}
@@ -5,6 +5,9 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.example.cloudservice.entity.UserRoles;
 import org.example.cloudservice.security.JwtTokenAuth;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.List;
 import java.util.Set;
@@ -15,10 +18,19 @@ public final class JwtTokenUtil {
     public static JwtTokenAuth generate(Claims claims) {
         JwtTokenAuth jwtInfoToken = new JwtTokenAuth();
         jwtInfoToken.setRoles(getRoles(claims));
+        jwtInfoToken.setUserId(claims.get("uid", Long.class));
         jwtInfoToken.setUsername(claims.getSubject());
         return jwtInfoToken;
     }
 
+    public static Long getAuthorizedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtTokenAuth jwtTokenAuth && jwtTokenAuth.getUserId() != null) {
+            return jwtTokenAuth.getUserId();
+        }
+        throw new AuthenticationCredentialsNotFoundException("No authorized user in security context");
+    }
+
     private static Set<UserRoles> getRoles(Claims claims) {
         List<String> roles = claims.get("roles", List.class);
         return roles.stream()
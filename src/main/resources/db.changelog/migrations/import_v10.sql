@@ -0,0 +1,15 @@
+-- changeset skyudaff: 15
+create table user_storage
+(
+    user_id     bigint primary key references users (id),
+    used_bytes  bigint not null default 0,
+    file_count  bigint not null default 0,
+    quota_bytes bigint
+);
+
+insert into user_storage (user_id, used_bytes, file_count)
+select f.user_id, sum(f.size), count(*)
+from files f
+where f.is_deleted is not true
+group by f.user_id;
+-- rollback drop table user_storage;
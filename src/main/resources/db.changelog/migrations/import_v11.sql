@@ -0,0 +1,14 @@
+-- changeset skyudaff: 16
+create table refresh_tokens
+(
+    token_hash   varchar(64) primary key,
+    user_id      bigint      not null references users (id),
+    family_id    uuid        not null,
+    expires_at   timestamp   not null,
+    created_date timestamp   not null default now(),
+    used         boolean     not null default false
+);
+
+create index refresh_tokens_family_id_idx on refresh_tokens (family_id);
+create index refresh_tokens_expires_at_idx on refresh_tokens (expires_at);
+-- rollback drop table refresh_tokens;
@@ -0,0 +1,16 @@
+-- changeset skyudaff: 17
+create extension if not exists pg_trgm;
+create extension if not exists btree_gin;
+
+create index files_user_id_file_name_trgm_idx
+    on files using gin (user_id, lower(file_name) gin_trgm_ops)
+    where not is_deleted;
+
+create index files_user_id_type_idx
+    on files (user_id, type text_pattern_ops)
+    where not is_deleted;
+
+create index files_user_id_created_date_idx
+    on files (user_id, created_date)
+    where not is_deleted;
+-- rollback drop index files_user_id_file_name_trgm_idx, files_user_id_type_idx, files_user_id_created_date_idx;
@@ -0,0 +1,5 @@
+-- changeset skyudaff: 18
+create index files_user_id_lower_file_name_idx
+    on files (user_id, lower(file_name) text_pattern_ops)
+    where not is_deleted;
+-- rollback drop index files_user_id_lower_file_name_idx;
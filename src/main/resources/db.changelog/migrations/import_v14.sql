@@ -0,0 +1,6 @@
+-- changeset skyudaff: 19
+alter table revoked_tokens
+    add column revoked_xid xid8 not null default pg_current_xact_id();
+
+create index revoked_tokens_revoked_xid_idx on revoked_tokens (revoked_xid);
+-- rollback drop index revoked_tokens_revoked_xid_idx; alter table revoked_tokens drop column revoked_xid;
@@ -0,0 +1,34 @@
+-- changeset skyudaff: 5
+create table blobs
+(
+    hash         varchar(255) primary key,
+    content      OID          not null,
+    size         bigint       not null,
+    ref_count    integer      not null default 0,
+    created_date timestamp    not null default now()
+);
+-- rollback drop table blobs;
+
+-- changeset skyudaff: 6
+insert into blobs (hash, content, size, ref_count)
+select distinct on (hash) hash, file_bytes, size, 0
+from files
+order by hash, id;
+
+update blobs b
+set ref_count = (select count(*) from files f where f.hash = b.hash and f.is_deleted is not true);
+
+select lo_unlink(f.file_bytes)
+from files f
+where not exists(select 1 from blobs b where b.content = f.file_bytes);
+
+select lo_unlink(b.content)
+from blobs b
+where b.ref_count = 0;
+
+delete
+from blobs
+where ref_count = 0;
+
+alter table files
+    drop column file_bytes;
@@ -0,0 +1,28 @@
+-- changeset skyudaff: 7
+create table upload_sessions
+(
+    id           uuid primary key,
+    user_id      bigint       not null references users (id),
+    file_name    varchar(255) not null,
+    type         varchar(255) not null,
+    size         bigint       not null,
+    chunk_count  integer      not null,
+    created_date timestamp    not null default now(),
+    updated_date timestamp    not null default now()
+);
+
+create index upload_sessions_updated_date_idx on upload_sessions (updated_date);
+-- rollback drop table upload_sessions;
+
+-- changeset skyudaff: 8
+create table upload_chunks
+(
+    id         bigserial primary key,
+    session_id uuid         not null references upload_sessions (id) on delete cascade,
+    number     integer      not null,
+    content    OID          not null,
+    size       bigint       not null,
+    checksum   varchar(255) not null,
+    unique (session_id, number)
+);
+-- rollback drop table upload_chunks;
@@ -0,0 +1,11 @@
+-- changeset skyudaff: 9
+create table revoked_tokens
+(
+    jti          varchar(255) primary key,
+    expires_at   timestamp    not null,
+    revoked_date timestamp    not null default now()
+);
+
+create index revoked_tokens_revoked_date_idx on revoked_tokens (revoked_date);
+create index revoked_tokens_expires_at_idx on revoked_tokens (expires_at);
+-- rollback drop table revoked_tokens;
@@ -0,0 +1,19 @@
+-- changeset skyudaff: 10
+alter table files
+    drop constraint files_user_id_fkey;
+
+alter table files
+    add constraint files_user_id_fkey foreign key (user_id) references users (id);
+
+-- changeset skyudaff: 11
+update files
+set is_deleted = false
+where is_deleted is null;
+
+alter table files
+    alter column is_deleted set not null;
+
+create unique index files_user_id_file_name_uidx
+    on files (user_id, file_name) include (id, hash, size, type, created_date)
+    where not is_deleted;
+-- rollback drop index files_user_id_file_name_uidx;
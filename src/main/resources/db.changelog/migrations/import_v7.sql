@@ -0,0 +1,11 @@
+-- changeset skyudaff: 12
+alter table blobs
+    add column codec varchar(16) not null default 'IDENTITY',
+    add column stored_size bigint;
+
+update blobs
+set stored_size = size;
+
+alter table blobs
+    alter column stored_size set not null;
+-- rollback alter table blobs drop column codec, drop column stored_size;
@@ -0,0 +1,6 @@
+-- changeset skyudaff: 13
+alter table files
+    alter column id type bigint;
+
+alter sequence files_id_seq as bigint increment by 50;
+-- rollback alter sequence files_id_seq increment by 1;
@@ -0,0 +1,5 @@
+-- changeset skyudaff: 14
+create index files_deleted_created_date_idx on files (created_date) where is_deleted = true;
+create index blobs_unreferenced_idx on blobs (hash) where ref_count <= 0;
+create index blobs_content_idx on blobs (content);
+-- rollback drop index files_deleted_created_date_idx, blobs_unreferenced_idx, blobs_content_idx;
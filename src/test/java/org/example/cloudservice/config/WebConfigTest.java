@@ -0,0 +1,55 @@
+package org.example.cloudservice.config;
+
+import org.example.cloudservice.handler.QuotaInterceptor;
+import org.example.cloudservice.handler.UploadAdmissionInterceptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcProperties;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@ExtendWith(MockitoExtension.class)
+class WebConfigTest {
+    @Mock
+    CorsProperties corsProperties;
+    @Mock
+    QuotaInterceptor quotaInterceptor;
+    @Mock
+    UploadAdmissionInterceptor uploadAdmissionInterceptor;
+    @Mock
+    AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void configureAsyncSupport_AppliesConfiguredTimeoutAndExecutor() {
+        // Arrange
+        WebMvcProperties webMvcProperties = new WebMvcProperties();
+        webMvcProperties.getAsync().setRequestTimeout(Duration.ofHours(1));
+        WebConfig webConfig = new WebConfig(corsProperties, quotaInterceptor, uploadAdmissionInterceptor,
+                webMvcProperties, applicationTaskExecutor);
+        RecordingAsyncSupportConfigurer configurer = new RecordingAsyncSupportConfigurer();
+
+        // Act
+        webConfig.configureAsyncSupport(configurer);
+
+        // Assert
+        assertEquals(Duration.ofHours(1).toMillis(), configurer.timeout());
+        assertSame(applicationTaskExecutor, configurer.executor());
+    }
+
+    private static class RecordingAsyncSupportConfigurer extends AsyncSupportConfigurer {
+        private Long timeout() {
+            return getTimeout();
+        }
+
+        private AsyncTaskExecutor executor() {
+            return getTaskExecutor();
+        }
+    }
+}
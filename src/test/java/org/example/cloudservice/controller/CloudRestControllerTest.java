@@ -0,0 +1,218 @@
+package org.example.cloudservice.controller;
+
+import org.example.cloudservice.dto.FileDto;
+import org.example.cloudservice.entity.ContentCodec;
+import org.example.cloudservice.service.Impl.AsyncUploadServiceImpl;
+import org.example.cloudservice.service.Impl.CloudServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CloudRestControllerTest {
+    @Mock
+    CloudServiceImpl fileService;
+    @Mock
+    AsyncUploadServiceImpl asyncUploadService;
+
+    MockMvc mockMvc;
+
+    static final String FILE_NAME = "test.txt";
+    static final String HASH = "982d9e3eb996f559e633f4d194def3761d909f5a3b647d1a851fead67c32c9d1";
+    static final LocalDateTime DATE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @BeforeEach
+    void createMockMvc() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new CloudRestController(fileService, asyncUploadService)).build();
+    }
+
+    @Test
+    void handleDownloadFile_MatchingIfNoneMatch_Returns304WithoutReadingContent() throws Exception {
+        // Arrange
+        when(fileService.downloadFile(FILE_NAME)).thenReturn(createFile(ContentCodec.IDENTITY));
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/cloud/file").param("filename", FILE_NAME)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + HASH + "\""));
+
+        // Assert
+        result.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "\""));
+        verifyNoContentRead();
+    }
+
+    @Test
+    void handleDownloadFile_NotModifiedSince_Returns304WithoutReadingContent() throws Exception {
+        // Arrange
+        when(fileService.downloadFile(FILE_NAME)).thenReturn(createFile(ContentCodec.IDENTITY));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(DATE.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/cloud/file").param("filename", FILE_NAME).headers(headers));
+
+        // Assert
+        result.andExpect(status().isNotModified());
+        verifyNoContentRead();
+    }
+
+    @Test
+    void handleDownloadFile_StaleIfMatch_Returns412WithoutReadingContent() throws Exception {
+        // Arrange
+        when(fileService.downloadFile(FILE_NAME)).thenReturn(createFile(ContentCodec.IDENTITY));
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/cloud/file").param("filename", FILE_NAME)
+                .header(HttpHeaders.IF_MATCH, "\"stale\""));
+
+        // Assert
+        result.andExpect(status().isPreconditionFailed());
+        verifyNoContentRead();
+    }
+
+    @Test
+    void handleDownloadFile_ModifiedAfterIfUnmodifiedSince_Returns412() throws Exception {
+        // Arrange
+        when(fileService.downloadFile(FILE_NAME)).thenReturn(createFile(ContentCodec.IDENTITY));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfUnmodifiedSince(DATE.minusDays(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        // Act
+        ResultActions result = mockMvc.perform(get("/cloud/file").param("filename", FILE_NAME).headers(headers));
+
+        // Assert
+        result.andExpect(status().isPreconditionFailed());
+        verifyNoContentRead();
+    }
+
+    @Test
+    void handleDownloadFile_MatchingIfMatch_StreamsContent() throws Exception {
+        // Arrange
+        when(fileService.downloadFile(FILE_NAME)).thenReturn(createFile(ContentCodec.IDENTITY));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/cloud/file").param("filename", FILE_NAME)
+                        .header(HttpHeaders.IF_MATCH, "\"" + HASH + "\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions dispatched = mockMvc.perform(asyncDispatch(result));
+
+        // Assert
+        dispatched.andExpect(status().isOk());
+        verify(fileService, times(1)).transferFile(eq(FILE_NAME), eq(0L), eq(12L), any());
+    }
+
+    @Test
+    void handleDownloadFile_GzipAccepted_UsesSeparateETagAndStreamsStoredContent() throws Exception {
+        // Arrange
+        when(fileService.downloadFile(FILE_NAME)).thenReturn(createFile(ContentCodec.GZIP));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/cloud/file").param("filename", FILE_NAME)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + HASH + "\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions dispatched = mockMvc.perform(asyncDispatch(result));
+
+        // Assert
+        dispatched.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "-gzip\""))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        verify(fileService, times(1)).transferStoredFile(eq(FILE_NAME), any());
+        verify(fileService, never()).transferFile(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void handleDownloadFile_GzipETagWithoutAcceptEncoding_StreamsDecodedContent() throws Exception {
+        // Arrange
+        when(fileService.downloadFile(FILE_NAME)).thenReturn(createFile(ContentCodec.GZIP));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/cloud/file").param("filename", FILE_NAME)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + HASH + "-gzip\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions dispatched = mockMvc.perform(asyncDispatch(result));
+
+        // Assert
+        dispatched.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "\""))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        verify(fileService, times(1)).transferFile(eq(FILE_NAME), eq(0L), eq(12L), any());
+    }
+
+    @Test
+    void handleDownloadFile_MatchingIfRange_ReturnsPartialContent() throws Exception {
+        // Arrange
+        when(fileService.downloadFile(FILE_NAME)).thenReturn(createFile(ContentCodec.IDENTITY));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/cloud/file").param("filename", FILE_NAME)
+                        .header(HttpHeaders.RANGE, "bytes=5-")
+                        .header(HttpHeaders.IF_RANGE, "\"" + HASH + "\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions dispatched = mockMvc.perform(asyncDispatch(result));
+
+        // Assert
+        dispatched.andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-11/12"));
+        verify(fileService, times(1)).transferFile(eq(FILE_NAME), eq(5L), eq(7L), any());
+    }
+
+    @Test
+    void handleDownloadFile_StaleIfRange_IgnoresRangeAndReturnsFullContent() throws Exception {
+        // Arrange
+        when(fileService.downloadFile(FILE_NAME)).thenReturn(createFile(ContentCodec.IDENTITY));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/cloud/file").param("filename", FILE_NAME)
+                        .header(HttpHeaders.RANGE, "bytes=5-")
+                        .header(HttpHeaders.IF_RANGE, "\"old\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions dispatched = mockMvc.perform(asyncDispatch(result));
+
+        // Assert
+        dispatched.andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE));
+        verify(fileService, times(1)).transferFile(eq(FILE_NAME), eq(0L), eq(12L), any());
+    }
+
+    private void verifyNoContentRead() throws IOException {
+        verify(fileService, never()).transferFile(anyString(), anyLong(), anyLong(), any());
+        verify(fileService, never()).transferStoredFile(anyString(), any());
+    }
+
+    private FileDto createFile(ContentCodec codec) {
+        return FileDto.builder()
+                .fileName(FILE_NAME)
+                .hash(HASH)
+                .size(12L)
+                .type("text/plain")
+                .date(DATE)
+                .codec(codec)
+                .storedSize(codec == ContentCodec.GZIP ? 8L : 12L)
+                .build();
+    }
+}
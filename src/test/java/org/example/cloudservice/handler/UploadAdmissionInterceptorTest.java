@@ -0,0 +1,98 @@
+package org.example.cloudservice.handler;
+
+import org.example.cloudservice.config.UploadAdmissionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadAdmissionInterceptorTest {
+    UploadAdmissionInterceptor interceptor;
+    MockHttpServletResponse response;
+
+    @BeforeEach
+    void createInterceptor() {
+        interceptor = new UploadAdmissionInterceptor(
+                new UploadAdmissionProperties(true, DataSize.ofKilobytes(10), Duration.ZERO));
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void preHandle_WithinBudget_ReservesUntilCompletion() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = createUploadRequest(4096);
+
+        // Act
+        boolean admitted = interceptor.preHandle(request, response, null);
+        long reserved = interceptor.inFlightBytes();
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Assert
+        assertTrue(admitted);
+        assertEquals(4096, reserved);
+        assertEquals(0, interceptor.inFlightBytes());
+    }
+
+    @Test
+    void preHandle_BudgetExhausted_ThrowsTaskRejectedException() throws Exception {
+        // Arrange
+        interceptor.preHandle(createUploadRequest(8192), response, null);
+
+        // Act & Assert
+        assertThrows(TaskRejectedException.class,
+                () -> interceptor.preHandle(createUploadRequest(4096), response, null));
+        assertEquals(8192, interceptor.inFlightBytes());
+    }
+
+    @Test
+    void preHandle_LargerThanBudget_AdmittedAlone() throws Exception {
+        // Act
+        boolean admitted = interceptor.preHandle(createUploadRequest(DataSize.ofMegabytes(1).toBytes()), response,
+                null);
+
+        // Assert
+        assertTrue(admitted);
+        assertEquals(interceptor.maxInFlightBytes(), interceptor.inFlightBytes());
+    }
+
+    @Test
+    void preHandle_AsyncDispatch_DoesNotReserveTwice() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = createUploadRequest(4096);
+        interceptor.preHandle(request, response, null);
+
+        // Act
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Assert
+        assertEquals(0, interceptor.inFlightBytes());
+    }
+
+    @Test
+    void preHandle_JsonBody_Skipped() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = createUploadRequest(4096);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        // Act
+        interceptor.preHandle(request, response, null);
+
+        // Assert
+        assertEquals(0, interceptor.inFlightBytes());
+    }
+
+    private MockHttpServletRequest createUploadRequest(long contentLength) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/cloud/file");
+        request.setContentType(MediaType.MULTIPART_FORM_DATA_VALUE);
+        request.setContent(new byte[(int) contentLength]);
+        return request;
+    }
+}
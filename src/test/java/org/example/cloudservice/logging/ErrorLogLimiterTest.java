@@ -0,0 +1,42 @@
+package org.example.cloudservice.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ErrorLogLimiterTest {
+    static final long PERIOD = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_OverLimit_SuppressesAndReportsCountInNextPeriod() {
+        // Arrange
+        ErrorLogLimiter limiter = new ErrorLogLimiter(2, PERIOD);
+        limiter.tryAcquire("/cloud/file 404", 0);
+        limiter.tryAcquire("/cloud/file 404", 1);
+
+        // Act
+        long limited = limiter.tryAcquire("/cloud/file 404", 2);
+        long alsoLimited = limiter.tryAcquire("/cloud/file 404", 3);
+        long nextPeriod = limiter.tryAcquire("/cloud/file 404", PERIOD + 1);
+
+        // Assert
+        assertEquals(-1, limited);
+        assertEquals(-1, alsoLimited);
+        assertEquals(2, nextPeriod);
+    }
+
+    @Test
+    void tryAcquire_DifferentKeys_LimitedIndependently() {
+        // Arrange
+        ErrorLogLimiter limiter = new ErrorLogLimiter(1, PERIOD);
+        limiter.tryAcquire("/cloud/file 404", 0);
+
+        // Act
+        long other = limiter.tryAcquire("/login 400", 1);
+
+        // Assert
+        assertEquals(0, other);
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.cloudservice.repository;
+
+import org.example.cloudservice.dto.FileDto;
+import org.example.cloudservice.dto.FileSearchCriteria;
+import org.example.cloudservice.entity.FileEntity;
+import org.example.cloudservice.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FileSearchRepositoryImplTest {
+    @Autowired
+    FileRepository fileRepository;
+    @Autowired
+    UserRepository userRepository;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres")
+            .withExposedPorts(5432);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    static final LocalDateTime DATE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    UserEntity user;
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(UserEntity.builder().login("search@example.org").password("search").build());
+    }
+
+    @Test
+    void searchFiles_NameFragment_MatchesCaseInsensitiveSubstring() {
+        // Arrange
+        save("Annual_Report.pdf", "application/pdf", 10, DATE);
+        save("report-2024.txt", "text/plain", 10, DATE);
+        save("summary.txt", "text/plain", 10, DATE);
+
+        // Act
+        List<FileDto> result = search(FileSearchCriteria.builder().name("REPORT").build());
+
+        // Assert
+        assertEquals(List.of("Annual_Report.pdf", "report-2024.txt"), fileNames(result));
+    }
+
+    @Test
+    void searchFiles_Prefix_MatchesOnlyLeadingFragment() {
+        // Arrange
+        save("Annual_Report.pdf", "application/pdf", 10, DATE);
+        save("report-2024.txt", "text/plain", 10, DATE);
+
+        // Act
+        List<FileDto> result = search(FileSearchCriteria.builder().name("report").prefix(true).build());
+
+        // Assert
+        assertEquals(List.of("report-2024.txt"), fileNames(result));
+    }
+
+    @Test
+    void searchFiles_LikeWildcardsInName_MatchedLiterally() {
+        // Arrange
+        save("100%_done.txt", "text/plain", 10, DATE);
+        save("1000_done.txt", "text/plain", 10, DATE);
+        save("back\\slash.txt", "text/plain", 10, DATE);
+
+        // Act
+        List<FileDto> percent = search(FileSearchCriteria.builder().name("0%_").build());
+        List<FileDto> backslash = search(FileSearchCriteria.builder().name("k\\s").build());
+
+        // Assert
+        assertEquals(List.of("100%_done.txt"), fileNames(percent));
+        assertEquals(List.of("back\\slash.txt"), fileNames(backslash));
+    }
+
+    @Test
+    void searchFiles_TypeWildcard_MatchesWholeFamily() {
+        // Arrange
+        save("a.png", "image/png", 10, DATE);
+        save("b.jpg", "image/jpeg", 10, DATE);
+        save("c.svg", "imagex/svg", 10, DATE);
+        save("d.txt", "text/plain", 10, DATE);
+
+        // Act
+        List<FileDto> family = search(FileSearchCriteria.builder().type("image/*").build());
+        List<FileDto> exact = search(FileSearchCriteria.builder().type("text/plain").build());
+
+        // Assert
+        assertEquals(List.of("a.png", "b.jpg"), fileNames(family));
+        assertEquals(List.of("d.txt"), fileNames(exact));
+    }
+
+    @Test
+    void searchFiles_SizeAndDateRanges_AppliedInclusiveExclusive() {
+        // Arrange
+        save("small.txt", "text/plain", 10, DATE);
+        save("medium.txt", "text/plain", 100, DATE.plusDays(1));
+        save("large.txt", "text/plain", 1000, DATE.plusDays(2));
+
+        // Act
+        List<FileDto> bySize = search(FileSearchCriteria.builder().minSize(100L).maxSize(1000L).build());
+        List<FileDto> byDate = search(FileSearchCriteria.builder().from(DATE.plusDays(1)).to(DATE.plusDays(2)).build());
+
+        // Assert
+        assertEquals(List.of("large.txt", "medium.txt"), fileNames(bySize));
+        assertEquals(List.of("medium.txt"), fileNames(byDate));
+    }
+
+    @Test
+    void searchFiles_Cursor_PagesByFileNameAndSkipsDeletedAndForeignFiles() {
+        // Arrange
+        save("a.txt", "text/plain", 10, DATE);
+        save("b.txt", "text/plain", 10, DATE);
+        save("c.txt", "text/plain", 10, DATE);
+        FileEntity deleted = save("d.txt", "text/plain", 10, DATE);
+        deleted.setDeleted(true);
+        fileRepository.save(FileEntity.builder()
+                .hash("hash")
+                .fileName("e.txt")
+                .type("text/plain")
+                .size(10L)
+                .createdDate(DATE)
+                .user(userRepository.findUserEntityByLogin("user@example.org").orElseThrow())
+                .build());
+        FileSearchCriteria criteria = FileSearchCriteria.builder().type("text/plain").build();
+
+        // Act
+        List<FileDto> firstPage = fileRepository.searchFiles(user.getId(), criteria, "", 2);
+        List<FileDto> secondPage = fileRepository.searchFiles(user.getId(), criteria, "b.txt", 2);
+
+        // Assert
+        assertEquals(List.of("a.txt", "b.txt"), fileNames(firstPage));
+        assertEquals(List.of("c.txt"), fileNames(secondPage));
+    }
+
+    private List<FileDto> search(FileSearchCriteria criteria) {
+        return fileRepository.searchFiles(user.getId(), criteria, "", 100);
+    }
+
+    private FileEntity save(String fileName, String type, long size, LocalDateTime createdDate) {
+        return fileRepository.save(FileEntity.builder()
+                .hash("hash")
+                .fileName(fileName)
+                .type(type)
+                .size(size)
+                .createdDate(createdDate)
+                .user(user)
+                .build());
+    }
+
+    private static List<String> fileNames(List<FileDto> files) {
+        return files.stream().map(FileDto::fileName).toList();
+    }
+}
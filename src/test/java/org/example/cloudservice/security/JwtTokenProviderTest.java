@@ -0,0 +1,81 @@
+package org.example.cloudservice.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.cloudservice.config.JwtTokenConfig;
+import org.example.cloudservice.entity.UserEntity;
+import org.example.cloudservice.entity.UserRoles;
+import org.example.cloudservice.repository.RevokedTokenRepository;
+import org.example.cloudservice.service.Impl.RevocationServiceImpl;
+import org.example.cloudservice.util.JwtTokenUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtTokenProviderTest {
+    static final String SECRET =
+            "zL1HB3Pch05Avfynovxrf/kpF9O2m4NCWKJUjEp27s9J2jEG3ifiKCGylaZ8fDeoONSTJP/wAzKawB8F9rOMNg==";
+
+    SimpleMeterRegistry meterRegistry;
+    JwtTokenProvider jwtTokenProvider;
+    UserEntity userEntity;
+
+    @BeforeEach
+    void createJwtTokenProvider() {
+        JwtTokenConfig jwtTokenConfig = new JwtTokenConfig(SECRET);
+        ReflectionTestUtils.setField(jwtTokenConfig, "expiration", 30);
+        ReflectionTestUtils.setField(jwtTokenConfig, "cacheSize", 100);
+        meterRegistry = new SimpleMeterRegistry();
+        RevocationServiceImpl revocationService = new RevocationServiceImpl(mock(RevokedTokenRepository.class));
+        jwtTokenProvider = new JwtTokenProvider(jwtTokenConfig, revocationService, meterRegistry);
+
+        userEntity = UserEntity.builder()
+                .id(1L)
+                .login("user@example.org")
+                .roles(Collections.singleton(UserRoles.ROLE_USER))
+                .build();
+    }
+
+    @Test
+    void resolveClaims_ValidToken_ParsesOnce() {
+        // Arrange
+        String token = jwtTokenProvider.generateAuthToken(userEntity);
+
+        // Act
+        Optional<Claims> first = jwtTokenProvider.resolveClaims(token);
+        Optional<Claims> second = jwtTokenProvider.resolveClaims(token);
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.get());
+        assertEquals("user@example.org", second.get().getSubject());
+        assertEquals(1L, JwtTokenUtil.generate(second.get()).getUserId());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void resolveClaims_InvalidToken_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(jwtTokenProvider.resolveClaims("invalid").isEmpty());
+        assertFalse(jwtTokenProvider.validateAuthToken("invalid"));
+    }
+
+    @Test
+    void resolveClaims_RevokedToken_ReturnsEmpty() {
+        // Arrange
+        String token = jwtTokenProvider.generateAuthToken(userEntity);
+        jwtTokenProvider.resolveClaims(token);
+
+        // Act
+        jwtTokenProvider.blacklistToken(token);
+
+        // Assert
+        assertTrue(jwtTokenProvider.resolveClaims(token).isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.cloudservice.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.cloudservice.config.RateLimitProperties;
+import org.example.cloudservice.metrics.CloudMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+    SimpleMeterRegistry meterRegistry;
+    RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void createRateLimitFilter() {
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitProperties properties = new RateLimitProperties(true, 100, Duration.ofMinutes(10), Map.of(
+                "login", new RateLimitProperties.Rule("/login", 2, Duration.ofMinutes(1)),
+                "file", new RateLimitProperties.Rule("/cloud/file", 1, Duration.ofMinutes(1)),
+                "default", new RateLimitProperties.Rule("/", 100, Duration.ofMinutes(1))));
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        rateLimitFilter = new RateLimitFilter(properties, messageSource, new ObjectMapper(),
+                new CloudMetrics(meterRegistry), meterRegistry);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_OverLimit_Returns429WithRetryAfter() throws Exception {
+        // Arrange
+        filter("/login", "10.0.0.1");
+        filter("/login", "10.0.0.1");
+
+        // Act
+        MockHttpServletResponse response = filter("/login", "10.0.0.1");
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("30", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, meterRegistry.get("rate.limit.rejected").tag("rule", "login").counter().count());
+    }
+
+    @Test
+    void doFilter_DifferentClients_UseSeparateBuckets() throws Exception {
+        // Arrange
+        filter("/login", "10.0.0.1");
+        filter("/login", "10.0.0.1");
+
+        // Act
+        MockHttpServletResponse response = filter("/login", "10.0.0.2");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+    }
+
+    @Test
+    void doFilter_AuthenticatedUser_KeyedByUserIdAndMostSpecificRule() throws Exception {
+        // Arrange
+        JwtTokenAuth auth = new JwtTokenAuth();
+        auth.setUserId(1L);
+        auth.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        filter("/login", "10.0.0.1");
+        filter("/login", "10.0.0.2");
+
+        // Act
+        MockHttpServletResponse limited = filter("/login", "10.0.0.3");
+        MockHttpServletResponse other = filter("/cloud/list", "10.0.0.3");
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), limited.getStatus());
+        assertEquals(HttpStatus.OK.value(), other.getStatus());
+    }
+
+    @Test
+    void doFilter_SiblingPath_DoesNotShareBucket() throws Exception {
+        // Arrange
+        filter("/cloud/file", "10.0.0.1");
+
+        // Act
+        MockHttpServletResponse sibling = filter("/cloud/files", "10.0.0.1");
+        MockHttpServletResponse limited = filter("/cloud/file", "10.0.0.1");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), sibling.getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), limited.getStatus());
+    }
+
+    private MockHttpServletResponse filter(String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
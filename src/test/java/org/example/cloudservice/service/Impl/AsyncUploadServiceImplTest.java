@@ -0,0 +1,90 @@
+package org.example.cloudservice.service.Impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.cloudservice.config.UploadExecutorProperties;
+import org.example.cloudservice.config.UploadExecutors;
+import org.example.cloudservice.metrics.CloudMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncUploadServiceImplTest {
+    @Mock
+    MessageSource messageSource;
+    @Mock
+    CloudServiceImpl cloudService;
+    @Mock
+    UploadExecutors uploadExecutors;
+    @Spy
+    UploadExecutorProperties uploadExecutorProperties = new UploadExecutorProperties(true, 1, 1, 1);
+    @Spy
+    CloudMetrics metrics = new CloudMetrics(new SimpleMeterRegistry());
+    @InjectMocks
+    AsyncUploadServiceImpl asyncUploadService;
+
+    static final String FILE_NAME = "test.txt";
+    static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void uploadFile_HashesOnCpuPoolAndStoresOnIoPool() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", FILE_NAME, "text/plain", "file content".getBytes());
+        String hash = CloudServiceImpl.calculateFileHash(new ByteArrayInputStream(file.getBytes()),
+                OutputStream.nullOutputStream(), metrics.hashTimer());
+        when(uploadExecutors.hashExecutor()).thenReturn(DIRECT);
+        when(uploadExecutors.storeExecutor()).thenReturn(DIRECT);
+
+        // Act
+        CompletableFuture<Void> result = asyncUploadService.uploadFile(FILE_NAME, file);
+
+        // Assert
+        assertTrue(result.isDone());
+        assertFalse(result.isCompletedExceptionally());
+        verify(cloudService, times(1)).uploadFile(FILE_NAME, "text/plain", file.getSize(), file, hash);
+    }
+
+    @Test
+    void uploadFile_EmptyFile_HandledSynchronously() {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", FILE_NAME, "text/plain", new byte[0]);
+
+        // Act
+        CompletableFuture<Void> result = asyncUploadService.uploadFile(FILE_NAME, file);
+
+        // Assert
+        assertTrue(result.isDone());
+        verify(cloudService, times(1)).uploadFile(FILE_NAME, file);
+        verifyNoInteractions(uploadExecutors);
+    }
+
+    @Test
+    void uploadFile_Disabled_HandledSynchronously() {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", FILE_NAME, "text/plain", "file content".getBytes());
+        when(uploadExecutorProperties.isEnabled()).thenReturn(false);
+
+        // Act
+        asyncUploadService.uploadFile(FILE_NAME, file);
+
+        // Assert
+        verify(cloudService, times(1)).uploadFile(FILE_NAME, file);
+        verify(cloudService, never()).uploadFile(any(), any(), anyLong(), any(), any());
+        verifyNoInteractions(uploadExecutors);
+    }
+}
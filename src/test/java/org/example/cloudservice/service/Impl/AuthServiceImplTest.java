@@ -6,10 +6,12 @@ import org.example.cloudservice.dto.UserDto;
 import org.example.cloudservice.entity.UserRoles;
 import org.example.cloudservice.security.JwtTokenProvider;
 import org.example.cloudservice.dto.TokenDto;
+import org.example.cloudservice.entity.RefreshTokenEntity;
 import org.example.cloudservice.entity.UserEntity;
 import org.example.cloudservice.exception.ErrorInputDataException;
 import org.example.cloudservice.exception.ErrorUserException;
 import org.example.cloudservice.repository.UserRepository;
+import org.example.cloudservice.service.RefreshTokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +26,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Collections;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -39,6 +42,8 @@ class AuthServiceImplTest {
     JwtTokenProvider jwtTokenProvider;
     @Mock
     PasswordEncoder passwordEncoder;
+    @Mock
+    RefreshTokenService refreshTokenService;
     @InjectMocks
     AuthServiceImpl authService;
 
@@ -68,6 +73,7 @@ class AuthServiceImplTest {
         when(userRepository.findUserEntityByLogin(userDTO.login())).thenReturn(Optional.of(userEntity));
         when(passwordEncoder.matches(userDTO.password(), userEntity.getPassword())).thenReturn(true);
         when(jwtTokenProvider.generateAuthToken(userEntity)).thenReturn("token");
+        when(refreshTokenService.issue(userEntity.getId())).thenReturn("refresh");
 
         // Act
         TokenDto result = authService.login(userDTO);
@@ -75,6 +81,29 @@ class AuthServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals("token", result.authToken());
+        assertEquals("refresh", result.refreshToken());
+    }
+
+    @Test
+    void refresh_ValidToken_RotatesWithoutPasswordCheck() {
+        // Arrange
+        UUID familyId = UUID.randomUUID();
+        RefreshTokenEntity current = RefreshTokenEntity.builder()
+                .userId(userEntity.getId())
+                .familyId(familyId)
+                .build();
+        when(refreshTokenService.consume("refresh")).thenReturn(current);
+        when(userRepository.findById(userEntity.getId())).thenReturn(Optional.of(userEntity));
+        when(jwtTokenProvider.generateAuthToken(userEntity)).thenReturn("token");
+        when(refreshTokenService.issue(userEntity.getId(), familyId)).thenReturn("rotated");
+
+        // Act
+        TokenDto result = authService.refresh("refresh");
+
+        // Assert
+        assertEquals("token", result.authToken());
+        assertEquals("rotated", result.refreshToken());
+        verifyNoInteractions(passwordEncoder);
     }
 
     @Test
@@ -116,6 +145,7 @@ class AuthServiceImplTest {
 
         // Assert
         assertTrue(result);
+        verify(refreshTokenService, times(1)).revokeAll(userEntity.getId());
     }
 
     @Test
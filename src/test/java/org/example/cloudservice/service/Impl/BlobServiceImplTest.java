@@ -0,0 +1,71 @@
+package org.example.cloudservice.service.Impl;
+
+import org.example.cloudservice.entity.ContentCodec;
+import org.example.cloudservice.repository.BlobRepository;
+import org.example.cloudservice.service.StorageService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlobServiceImplTest {
+    @Mock
+    BlobRepository blobRepository;
+    @Mock
+    StorageService storageService;
+    @InjectMocks
+    BlobServiceImpl blobService;
+
+    static final String HASH = "982d9e3eb996f559e633f4d194def3761d909f5a3b647d1a851fead67c32c9d1";
+
+    @Test
+    void acquire_NewContent_KeepsStoredObject() {
+        // Arrange
+        when(blobRepository.acquire(HASH, 1L, 10L, "IDENTITY", 10L)).thenReturn(1L);
+
+        // Act
+        blobService.acquire(HASH, 1L, 10L, ContentCodec.IDENTITY, 10L);
+
+        // Assert
+        verify(storageService, never()).delete(anyLong());
+    }
+
+    @Test
+    void acquire_KnownContent_DropsDuplicateObject() {
+        // Arrange
+        when(blobRepository.acquire(HASH, 2L, 10L, "IDENTITY", 10L)).thenReturn(1L);
+
+        // Act
+        blobService.acquire(HASH, 2L, 10L, ContentCodec.IDENTITY, 10L);
+
+        // Assert
+        verify(storageService, times(1)).delete(2L);
+    }
+
+    @Test
+    void release_DecrementsReferenceOnly() {
+        // Act
+        blobService.release(HASH);
+
+        // Assert
+        verify(blobRepository, times(1)).decrementRefCount(HASH);
+        verify(storageService, never()).delete(anyLong());
+    }
+
+    @Test
+    void releaseAll_GroupsDecrementsByCount() {
+        // Act
+        blobService.releaseAll(List.of(HASH, HASH, "other"));
+
+        // Assert
+        verify(blobRepository, times(1)).decrementRefCounts(List.of(HASH), 2);
+        verify(blobRepository, times(1)).decrementRefCounts(List.of("other"), 1);
+        verify(storageService, never()).delete(anyLong());
+    }
+}
@@ -1,25 +1,46 @@
 package org.example.cloudservice.service.Impl;
 
-import org.example.cloudservice.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.cloudservice.config.CompressionProperties;
+import org.example.cloudservice.dto.BatchResultDto;
 import org.example.cloudservice.dto.FileDto;
+import org.example.cloudservice.dto.FileSearchCriteria;
+import org.example.cloudservice.dto.RenameDto;
+import org.example.cloudservice.entity.BlobEntity;
+import org.example.cloudservice.entity.ContentCodec;
 import org.example.cloudservice.entity.FileEntity;
 import org.example.cloudservice.entity.UserEntity;
 import org.example.cloudservice.exception.ErrorInputDataException;
+import org.example.cloudservice.metrics.CloudMetrics;
 import org.example.cloudservice.repository.FileRepository;
+import org.example.cloudservice.security.JwtTokenAuth;
+import org.example.cloudservice.service.BlobService;
+import org.example.cloudservice.service.ContentCacheService;
+import org.example.cloudservice.service.QuotaService;
+import org.example.cloudservice.service.StorageService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,7 +53,18 @@ class CloudServiceImplTest {
     @Mock
     FileRepository fileRepository;
     @Mock
-    JwtTokenProvider jwtProvider;
+    StorageService storageService;
+    @Mock
+    BlobService blobService;
+    @Mock
+    ContentCacheService contentCacheService;
+    @Mock
+    QuotaService quotaService;
+    @Spy
+    CompressionServiceImpl compressionService = new CompressionServiceImpl(
+            new CompressionProperties(true, List.of("text/*"), 1024, 65536, 0.9));
+    @Spy
+    CloudMetrics metrics = new CloudMetrics(new SimpleMeterRegistry());
     @InjectMocks
     CloudServiceImpl cloudService;
 
@@ -44,6 +76,15 @@ class CloudServiceImplTest {
     @BeforeEach
     void createTestUserEntity() {
         userEntity = UserEntity.builder().id(1L).build();
+        JwtTokenAuth auth = new JwtTokenAuth();
+        auth.setUserId(userEntity.getId());
+        auth.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
     }
 
     @BeforeEach
@@ -54,7 +95,6 @@ class CloudServiceImplTest {
                 .fileName(FILE_NAME)
                 .type("text/plain")
                 .size(1L)
-                .fileBytes("text".getBytes())
                 .createdDate(LocalDateTime.now())
                 .user(userEntity)
                 .build();
@@ -66,14 +106,38 @@ class CloudServiceImplTest {
         // Arrange
         MultipartFile multipartFile = createMockMultipartFile();
 
-        when(jwtProvider.getAuthorizedUser()).thenReturn(userEntity);
-        when(fileRepository.findFileEntityByFileName(FILE_NAME)).thenReturn(Optional.empty());
+        when(fileRepository.existsFileEntityByUserIdAndFileName(1L, FILE_NAME)).thenReturn(false);
+        when(storageService.create()).thenReturn(1L);
+        when(storageService.openOutputStream(1L)).thenReturn(OutputStream.nullOutputStream());
         when(fileRepository.save(any(FileEntity.class))).thenReturn(fileEntity);
 
         // Act
         assertDoesNotThrow(() -> cloudService.uploadFile(FILE_NAME, multipartFile));
 
         // Assert
+        verify(blobService, times(1)).acquire(anyString(), eq(1L), eq(multipartFile.getSize()),
+                eq(ContentCodec.IDENTITY), eq(multipartFile.getSize()));
+        verify(fileRepository, times(1)).save(any(FileEntity.class));
+        verify(quotaService, times(1)).reserve(1L, multipartFile.getSize(), 1);
+        verify(metrics, times(1)).recordUploadedBytes(multipartFile.getSize());
+        verify(metrics, times(1)).recordOperation(eq(CloudMetrics.Operation.UPLOAD), anyLong());
+    }
+
+    @Test
+    void uploadFile_HashedKnownContent_SkipsStorageWrite() {
+        // Arrange
+        MultipartFile multipartFile = createMockMultipartFile();
+
+        when(fileRepository.existsFileEntityByUserIdAndFileName(1L, FILE_NAME)).thenReturn(false);
+        when(blobService.acquireExisting(fileEntity.getHash())).thenReturn(true);
+
+        // Act
+        assertDoesNotThrow(() -> cloudService.uploadFile(FILE_NAME, "text/plain", multipartFile.getSize(),
+                multipartFile, fileEntity.getHash()));
+
+        // Assert
+        verify(storageService, never()).create();
+        verify(blobService, never()).acquire(anyString(), anyLong(), anyLong(), any(), anyLong());
         verify(fileRepository, times(1)).save(any(FileEntity.class));
     }
 
@@ -95,8 +159,7 @@ class CloudServiceImplTest {
         MultipartFile nonEmptyFile =
                 new MockMultipartFile("file", FILE_NAME, "text/plain", "file content".getBytes());
 
-        when(jwtProvider.getAuthorizedUser()).thenReturn(userEntity);
-        when(fileRepository.findFileEntityByFileName(FILE_NAME)).thenReturn(Optional.of(new FileEntity()));
+        when(fileRepository.existsFileEntityByUserIdAndFileName(1L, FILE_NAME)).thenReturn(true);
         when(messageSource.getMessage(eq("file.uploaded.error"), any(), eq(Locale.getDefault())))
                 .thenReturn("This file already uploaded. Please upload other file");
 
@@ -104,6 +167,16 @@ class CloudServiceImplTest {
         assertThrows(ErrorInputDataException.class, () -> cloudService.uploadFile(FILE_NAME, nonEmptyFile));
     }
 
+    private BlobEntity createBlob(ContentCodec codec, long oid) {
+        return BlobEntity.builder()
+                .hash(fileEntity.getHash())
+                .contentOid(oid)
+                .size(fileEntity.getSize())
+                .codec(codec)
+                .storedSize(fileEntity.getSize())
+                .build();
+    }
+
     private MultipartFile createMockMultipartFile() {
         return new MockMultipartFile("file", FILE_NAME, "text/plain", "file content".getBytes());
     }
@@ -111,8 +184,7 @@ class CloudServiceImplTest {
     @Test
     void deleteFile_DeletedSuccessfully() {
         // Arrange
-        when(jwtProvider.getAuthorizedUser()).thenReturn(userEntity);
-        when(fileRepository.findFileEntityByFileName(FILE_NAME)).thenReturn(Optional.of(fileEntity));
+        when(fileRepository.findFileEntityByUserIdAndFileName(1L, FILE_NAME)).thenReturn(Optional.of(fileEntity));
 
         // Act
         assertDoesNotThrow(() -> cloudService.deleteFile(FILE_NAME));
@@ -121,13 +193,15 @@ class CloudServiceImplTest {
         assertTrue(fileEntity.isDeleted());
         assertNotNull(fileEntity.getCreatedDate());
         verify(fileRepository, times(1)).save(any(FileEntity.class));
+        verify(quotaService, times(1)).release(1L, fileEntity.getSize(), 1);
+        verify(blobService, times(1)).release(fileEntity.getHash());
     }
 
     @Test
     void downloadFile_ReturnsFileDTO() {
         // Arrange
-        when(jwtProvider.getAuthorizedUser()).thenReturn(userEntity);
-        when(fileRepository.findFileEntityByFileName(FILE_NAME)).thenReturn(Optional.of(fileEntity));
+        when(fileRepository.findFileEntityByUserIdAndFileName(1L, FILE_NAME)).thenReturn(Optional.of(fileEntity));
+        when(blobService.getBlob(fileEntity.getHash())).thenReturn(createBlob(ContentCodec.GZIP, 1L));
 
         // Act
         fileDTO = cloudService.downloadFile(FILE_NAME);
@@ -136,16 +210,53 @@ class CloudServiceImplTest {
         assertNotNull(fileDTO);
         assertEquals(FILE_NAME, fileDTO.fileName());
         assertEquals(fileEntity.getType(), fileDTO.type());
-        assertArrayEquals(fileEntity.getFileBytes(), fileDTO.fileBytes());
+        assertEquals(fileEntity.getSize(), fileDTO.size());
+        assertEquals(ContentCodec.GZIP, fileDTO.codec());
+        verifyNoInteractions(storageService);
+    }
+
+    @Test
+    void transferFile_StreamsRequestedRange() throws IOException {
+        // Arrange
+        OutputStream out = new ByteArrayOutputStream();
+        when(fileRepository.findFileEntityByUserIdAndFileName(1L, FILE_NAME)).thenReturn(Optional.of(fileEntity));
+        BlobEntity blob = createBlob(ContentCodec.IDENTITY, 1L);
+        when(blobService.getBlob(fileEntity.getHash())).thenReturn(blob);
+
+        // Act
+        cloudService.transferFile(FILE_NAME, 2, 5, out);
+
+        // Assert
+        verify(contentCacheService, times(1)).transferTo(blob, 2, 5, out);
+    }
+
+    @Test
+    void transferFile_CompressedContent_DecompressesRequestedRange() throws IOException {
+        // Arrange
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("file content".getBytes());
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(fileRepository.findFileEntityByUserIdAndFileName(1L, FILE_NAME)).thenReturn(Optional.of(fileEntity));
+        BlobEntity blob = createBlob(ContentCodec.GZIP, 1L);
+        when(blobService.getBlob(fileEntity.getHash())).thenReturn(blob);
+        when(contentCacheService.openInputStream(blob)).thenReturn(new ByteArrayInputStream(compressed.toByteArray()));
+
+        // Act
+        cloudService.transferFile(FILE_NAME, 2, 5, out);
+
+        // Assert
+        assertEquals("le co", out.toString());
+        verify(contentCacheService, never()).transferTo(any(), anyLong(), anyLong(), any());
     }
 
     @Test
     void editFileName_EditedSuccessfully() {
         // Arrange
-        when(jwtProvider.getAuthorizedUser()).thenReturn(userEntity);
-        when(fileRepository.findFileEntityByFileName(anyString())).thenReturn(Optional.empty());
         FileDto fileDTO = FileDto.builder().fileName("new_name.txt").build();
-        when(fileRepository.findFileEntityByFileName(FILE_NAME)).thenReturn(Optional.of(fileEntity));
+        when(fileRepository.existsFileEntityByUserIdAndFileName(1L, fileDTO.fileName())).thenReturn(false);
+        when(fileRepository.findFileEntityByUserIdAndFileName(1L, FILE_NAME)).thenReturn(Optional.of(fileEntity));
 
         // Act
         assertDoesNotThrow(() -> cloudService.editFileName(FILE_NAME, fileDTO));
@@ -155,21 +266,161 @@ class CloudServiceImplTest {
         verify(fileRepository, times(1)).save(fileEntity);
     }
 
+    @Test
+    void uploadFiles_DuplicateName_SavesOthersInOneBatch() {
+        // Arrange
+        MultipartFile duplicate = createMockMultipartFile();
+        MultipartFile other = new MockMultipartFile("file", "other.txt", "text/plain", "other".getBytes());
+        when(fileRepository.findFileNamesByUserIdAndFileNameIn(1L, List.of(FILE_NAME, "other.txt")))
+                .thenReturn(List.of(FILE_NAME));
+        when(quotaService.getAvailable(1L)).thenReturn(1024L);
+        when(storageService.create()).thenReturn(1L);
+        when(storageService.openOutputStream(1L)).thenReturn(OutputStream.nullOutputStream());
+        when(messageSource.getMessage(eq("file.uploaded.error"), any(), any(Locale.class))).thenReturn("exists");
+
+        // Act
+        List<BatchResultDto> results = cloudService.uploadFiles(List.of(duplicate, other));
+
+        // Assert
+        assertFalse(results.get(0).success());
+        assertEquals("exists", results.get(0).error());
+        assertTrue(results.get(1).success());
+        verify(storageService, times(1)).create();
+        verify(fileRepository, times(1)).saveAll(argThat(files -> ((List<FileEntity>) files).size() == 1));
+        verify(fileRepository, never()).save(any(FileEntity.class));
+        verify(quotaService, times(1)).reserve(1L, other.getSize(), 1);
+    }
+
+    @Test
+    void uploadFiles_UnreadableFile_UnlinksCreatedObject() throws IOException {
+        // Arrange
+        MultipartFile broken = mock(MultipartFile.class);
+        when(broken.getOriginalFilename()).thenReturn(FILE_NAME);
+        when(broken.getContentType()).thenReturn("text/plain");
+        when(broken.getSize()).thenReturn(5L);
+        when(broken.getInputStream()).thenThrow(new IOException("connection reset"));
+        when(fileRepository.findFileNamesByUserIdAndFileNameIn(1L, List.of(FILE_NAME))).thenReturn(List.of());
+        when(quotaService.getAvailable(1L)).thenReturn(1024L);
+        when(storageService.create()).thenReturn(1L);
+
+        // Act
+        List<BatchResultDto> results = cloudService.uploadFiles(List.of(broken));
+
+        // Assert
+        assertFalse(results.get(0).success());
+        verify(storageService, times(1)).delete(1L);
+        verify(blobService, never()).acquire(anyString(), anyLong(), anyLong(), any(), anyLong());
+        verify(quotaService, never()).reserve(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void uploadFiles_QuotaExhausted_RejectsWithoutStoring() {
+        // Arrange
+        MultipartFile multipartFile = createMockMultipartFile();
+        when(fileRepository.findFileNamesByUserIdAndFileNameIn(1L, List.of(FILE_NAME))).thenReturn(List.of());
+        when(quotaService.getAvailable(1L)).thenReturn(0L);
+        when(messageSource.getMessage(eq("storage.quota.error"), any(), any(Locale.class))).thenReturn("quota");
+
+        // Act
+        List<BatchResultDto> results = cloudService.uploadFiles(List.of(multipartFile));
+
+        // Assert
+        assertEquals("quota", results.get(0).error());
+        verifyNoInteractions(storageService);
+        verify(quotaService, never()).reserve(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void deleteFiles_MissingFile_DeletesFoundFilesInOneStatement() {
+        // Arrange
+        List<String> fileNames = List.of(FILE_NAME, "missing.txt");
+        when(fileRepository.findFileEntitiesByUserIdAndFileNameIn(1L, fileNames)).thenReturn(List.of(fileEntity));
+        when(messageSource.getMessage(eq("file.exist.error"), any(), any(Locale.class))).thenReturn("missing");
+
+        // Act
+        List<BatchResultDto> results = cloudService.deleteFiles(fileNames);
+
+        // Assert
+        assertTrue(results.get(0).success());
+        assertFalse(results.get(1).success());
+        verify(fileRepository, times(1)).softDeleteByIdIn(eq(List.of(fileEntity.getId())), any(LocalDateTime.class));
+        verify(quotaService, times(1)).release(1L, fileEntity.getSize(), 1);
+        verify(blobService, times(1)).releaseAll(List.of(fileEntity.getHash()));
+        verify(blobService, never()).release(anyString());
+    }
+
+    @Test
+    void renameFiles_TakenTarget_RenamesOthers() {
+        // Arrange
+        FileEntity second = FileEntity.builder().id(2L).fileName("second.txt").user(userEntity).build();
+        List<RenameDto> renames = List.of(new RenameDto(FILE_NAME, "taken.txt"),
+                new RenameDto("second.txt", "renamed.txt"));
+        when(fileRepository.findFileEntitiesByUserIdAndFileNameIn(1L, List.of(FILE_NAME, "second.txt")))
+                .thenReturn(List.of(fileEntity, second));
+        when(fileRepository.findFileNamesByUserIdAndFileNameIn(1L, List.of("taken.txt", "renamed.txt")))
+                .thenReturn(List.of("taken.txt"));
+        when(messageSource.getMessage(eq("file.uploaded.error"), any(), any(Locale.class))).thenReturn("exists");
+
+        // Act
+        List<BatchResultDto> results = cloudService.renameFiles(renames);
+
+        // Assert
+        assertFalse(results.get(0).success());
+        assertTrue(results.get(1).success());
+        assertEquals(FILE_NAME, fileEntity.getFileName());
+        assertEquals("renamed.txt", second.getFileName());
+        verify(fileRepository, times(1)).saveAll(List.of(second));
+    }
+
     @Test
     void getFileList_ValidLimit_ReturnsFileDTOList() {
         // Arrange
-        List<FileEntity> fileEntities = List.of(FileEntity.builder().fileName("file1.txt").build(),
-                FileEntity.builder().fileName("file2.txt").build());
-        when(jwtProvider.getAuthorizedUser()).thenReturn(userEntity);
-        when(fileRepository.findFilesByUserIdWithLimit(userEntity.getId(), 2)).thenReturn(fileEntities);
+        List<FileDto> files = List.of(FileDto.builder().fileName("file1.txt").build(),
+                FileDto.builder().fileName("file2.txt").build());
+        when(fileRepository.findFileInfoByUserIdAfter(userEntity.getId(), "", PageRequest.ofSize(2)))
+                .thenReturn(files);
 
         // Act
-        List<FileDto> result = cloudService.getFileList(2);
+        List<FileDto> result = cloudService.getFileList(2, "");
 
         // Assert
         assertNotNull(result);
-        assertEquals(fileEntities.size(), result.size());
-        assertEquals(fileEntities.get(0).getFileName(), result.get(0).fileName());
-        assertEquals(fileEntities.get(1).getFileName(), result.get(1).fileName());
+        assertEquals(files.size(), result.size());
+        assertEquals(files.get(0).fileName(), result.get(0).fileName());
+        assertEquals(files.get(1).fileName(), result.get(1).fileName());
+    }
+
+    @Test
+    void getFileList_ZeroLimit_ReturnsEmptyList() {
+        // Act
+        List<FileDto> result = cloudService.getFileList(0, "");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(fileRepository);
+    }
+
+    @Test
+    void searchFiles_ValidLimit_ReturnsMatchingFiles() {
+        // Arrange
+        FileSearchCriteria criteria = FileSearchCriteria.builder().name("report").type("image/*").build();
+        List<FileDto> files = List.of(FileDto.builder().fileName("report.png").build());
+        when(fileRepository.searchFiles(userEntity.getId(), criteria, "", 10)).thenReturn(files);
+
+        // Act
+        List<FileDto> result = cloudService.searchFiles(criteria, 10, "");
+
+        // Assert
+        assertEquals(files, result);
+    }
+
+    @Test
+    void searchFiles_ZeroLimit_ReturnsEmptyList() {
+        // Act
+        List<FileDto> result = cloudService.searchFiles(FileSearchCriteria.builder().name("report").build(), 0, "");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(fileRepository);
     }
 }
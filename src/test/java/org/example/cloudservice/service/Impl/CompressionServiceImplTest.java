@@ -0,0 +1,82 @@
+package org.example.cloudservice.service.Impl;
+
+import org.example.cloudservice.config.CompressionProperties;
+import org.example.cloudservice.entity.ContentCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressionServiceImplTest {
+    CompressionServiceImpl compressionService = new CompressionServiceImpl(
+            new CompressionProperties(true, List.of("text/*", "application/json"), 1024, 65536, 0.9));
+
+    @Test
+    void chooseCodec_CompressibleText_ReturnsGzip() throws IOException {
+        // Arrange
+        byte[] content = "line of a log file\n".repeat(1000).getBytes();
+        BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(content));
+
+        // Act
+        ContentCodec codec = compressionService.chooseCodec("text/plain; charset=UTF-8", content.length, in);
+
+        // Assert
+        assertEquals(ContentCodec.GZIP, codec);
+        assertArrayEquals(content, in.readAllBytes());
+    }
+
+    @Test
+    void chooseCodec_RandomBytes_ReturnsIdentity() throws IOException {
+        // Arrange
+        byte[] content = new byte[16384];
+        new Random(42).nextBytes(content);
+
+        // Act
+        ContentCodec codec = compressionService.chooseCodec("application/json", content.length,
+                new BufferedInputStream(new ByteArrayInputStream(content)));
+
+        // Assert
+        assertEquals(ContentCodec.IDENTITY, codec);
+    }
+
+    @Test
+    void chooseCodec_NotCompressibleType_ReturnsIdentity() throws IOException {
+        // Arrange
+        byte[] content = "a".repeat(4096).getBytes();
+
+        // Act
+        ContentCodec codec = compressionService.chooseCodec("image/png", content.length,
+                new BufferedInputStream(new ByteArrayInputStream(content)));
+
+        // Assert
+        assertEquals(ContentCodec.IDENTITY, codec);
+    }
+
+    @Test
+    void encodeAndDecode_Gzip_RoundTrips() throws IOException {
+        // Arrange
+        byte[] content = "file content".getBytes();
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+
+        // Act
+        try (OutputStream out = compressionService.encode(ContentCodec.GZIP, stored)) {
+            out.write(content);
+        }
+        byte[] decoded;
+        try (InputStream in = compressionService.decode(ContentCodec.GZIP,
+                new ByteArrayInputStream(stored.toByteArray()))) {
+            decoded = in.readAllBytes();
+        }
+
+        // Assert
+        assertArrayEquals(content, decoded);
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.cloudservice.service.Impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.cloudservice.config.DownloadCacheProperties;
+import org.example.cloudservice.entity.BlobEntity;
+import org.example.cloudservice.entity.ContentCodec;
+import org.example.cloudservice.service.StorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentCacheServiceImplTest {
+    @Mock
+    StorageService storageService;
+
+    ContentCacheServiceImpl contentCacheService;
+
+    static final String HASH = "982d9e3eb996f559e633f4d194def3761d909f5a3b647d1a851fead67c32c9d1";
+    static final byte[] CONTENT = "file content".getBytes();
+
+    @BeforeEach
+    void createContentCacheService() {
+        contentCacheService = new ContentCacheServiceImpl(storageService,
+                new DownloadCacheProperties(true, DataSize.ofKilobytes(1), DataSize.ofBytes(64)),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void transferTo_RepeatedDownload_ReadsStorageOnce() throws IOException {
+        // Arrange
+        BlobEntity blob = createBlob(CONTENT.length);
+        when(storageService.openInputStream(1L)).thenReturn(new ByteArrayInputStream(CONTENT));
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        // Act
+        contentCacheService.transferTo(blob, 0, CONTENT.length, first);
+        contentCacheService.transferTo(blob, 5, 7, second);
+
+        // Assert
+        assertEquals("file content", first.toString());
+        assertEquals("content", second.toString());
+        verify(storageService, times(1)).openInputStream(1L);
+    }
+
+    @Test
+    void transferTo_LargeBlob_BypassesCache() throws IOException {
+        // Arrange
+        BlobEntity blob = createBlob(128);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        contentCacheService.transferTo(blob, 0, 128, out);
+
+        // Assert
+        verify(storageService, times(1)).transferTo(1L, 0, 128, out);
+        verify(storageService, never()).openInputStream(anyLong());
+    }
+
+    @Test
+    void invalidate_ReloadsContentFromStorage() throws IOException {
+        // Arrange
+        BlobEntity blob = createBlob(CONTENT.length);
+        when(storageService.openInputStream(1L))
+                .thenReturn(new ByteArrayInputStream(CONTENT), new ByteArrayInputStream(CONTENT));
+
+        // Act
+        contentCacheService.openInputStream(blob).readAllBytes();
+        contentCacheService.invalidate(HASH, 1L);
+        byte[] reloaded = contentCacheService.openInputStream(blob).readAllBytes();
+
+        // Assert
+        assertArrayEquals(CONTENT, reloaded);
+        verify(storageService, times(2)).openInputStream(1L);
+    }
+
+    @Test
+    void openInputStream_SameHashNewContent_DoesNotServeStaleBytes() throws IOException {
+        // Arrange
+        byte[] identity = "identity".getBytes();
+        BlobEntity compressed = createBlob(CONTENT.length, 1L, ContentCodec.GZIP);
+        BlobEntity reuploaded = createBlob(identity.length, 2L, ContentCodec.IDENTITY);
+        when(storageService.openInputStream(1L)).thenReturn(new ByteArrayInputStream(CONTENT));
+        when(storageService.openInputStream(2L)).thenReturn(new ByteArrayInputStream(identity));
+
+        // Act
+        contentCacheService.openInputStream(compressed).readAllBytes();
+        byte[] result = contentCacheService.openInputStream(reuploaded).readAllBytes();
+
+        // Assert
+        assertArrayEquals(identity, result);
+    }
+
+    private BlobEntity createBlob(long storedSize) {
+        return createBlob(storedSize, 1L, ContentCodec.IDENTITY);
+    }
+
+    private BlobEntity createBlob(long storedSize, long contentOid, ContentCodec codec) {
+        return BlobEntity.builder()
+                .hash(HASH)
+                .contentOid(contentOid)
+                .size(storedSize)
+                .codec(codec)
+                .storedSize(storedSize)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.cloudservice.service.Impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.cloudservice.config.PurgeProperties;
+import org.example.cloudservice.metrics.CloudMetrics;
+import org.example.cloudservice.repository.BlobRepository;
+import org.example.cloudservice.repository.FileRepository;
+import org.example.cloudservice.service.ContentCacheService;
+import org.example.cloudservice.service.StorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PurgeServiceImplTest {
+    @Mock
+    FileRepository fileRepository;
+    @Mock
+    BlobRepository blobRepository;
+    @Mock
+    StorageService storageService;
+    @Mock
+    ContentCacheService contentCacheService;
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    SimpleMeterRegistry registry;
+    PurgeServiceImpl purgeService;
+
+    static final String HASH = "982d9e3eb996f559e633f4d194def3761d909f5a3b647d1a851fead67c32c9d1";
+
+    @BeforeEach
+    void createPurgeService() {
+        registry = new SimpleMeterRegistry();
+        purgeService = new PurgeServiceImpl(fileRepository, blobRepository, storageService, contentCacheService,
+                transactionTemplate, new CloudMetrics(registry),
+                new PurgeProperties(Duration.ofDays(30), 2, 3, Duration.ZERO));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void purgeDeletedFiles_RunsBatchesUntilBacklogDrained() {
+        // Arrange
+        when(fileRepository.deleteSoftDeletedBefore(any(LocalDateTime.class), eq(2))).thenReturn(2, 1);
+
+        // Act
+        int purged = purgeService.purgeDeletedFiles();
+
+        // Assert
+        assertEquals(3, purged);
+        verify(fileRepository, times(2)).deleteSoftDeletedBefore(any(LocalDateTime.class), eq(2));
+        assertEquals(3, registry.get("cloud.purge.files").counter().count());
+    }
+
+    @Test
+    void purgeDeletedFiles_StopsAtMaxBatches() {
+        // Arrange
+        when(fileRepository.deleteSoftDeletedBefore(any(LocalDateTime.class), eq(2))).thenReturn(2);
+
+        // Act
+        int purged = purgeService.purgeDeletedFiles();
+
+        // Assert
+        assertEquals(6, purged);
+        verify(fileRepository, times(3)).deleteSoftDeletedBefore(any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    void purgeUnreferencedBlobs_UnlinksContentAndInvalidatesCache() {
+        // Arrange
+        when(blobRepository.deleteUnreferenced(2)).thenReturn(List.<Object[]>of(new Object[]{HASH, 7L, 100L}));
+
+        // Act
+        int purged = purgeService.purgeUnreferencedBlobs();
+
+        // Assert
+        assertEquals(1, purged);
+        verify(storageService, times(1)).delete(7L);
+        verify(contentCacheService, times(1)).invalidate(HASH, 7L);
+        assertEquals(100, registry.get("cloud.purge.reclaimed").tag("source", "blob").counter().count());
+    }
+
+    @Test
+    void purgeUnreferencedBlobs_InvalidatesCacheOnlyAfterCommit() {
+        // Arrange
+        when(blobRepository.deleteUnreferenced(2)).thenReturn(List.<Object[]>of(new Object[]{HASH, 7L, 100L}));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            purgeService.purgeUnreferencedBlobs();
+
+            // Assert
+            verify(contentCacheService, never()).invalidate(anyString(), anyLong());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(contentCacheService, times(1)).invalidate(HASH, 7L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void sweepOrphanedObjects_UnlinksUnreferencedObjects() {
+        // Arrange
+        when(blobRepository.tryAdvisoryLock(anyLong())).thenReturn(true);
+        when(blobRepository.findOrphanedContent(2)).thenReturn(List.of(5L));
+        when(storageService.size(5L)).thenReturn(42L);
+
+        // Act
+        int swept = purgeService.sweepOrphanedObjects();
+
+        // Assert
+        assertEquals(1, swept);
+        verify(storageService, times(1)).delete(5L);
+        assertEquals(42, registry.get("cloud.purge.reclaimed").tag("source", "orphan").counter().count());
+    }
+
+    @Test
+    void sweepOrphanedObjects_LockHeldElsewhere_SkipsSweep() {
+        // Arrange
+        when(blobRepository.tryAdvisoryLock(anyLong())).thenReturn(false);
+
+        // Act
+        int swept = purgeService.sweepOrphanedObjects();
+
+        // Assert
+        assertEquals(0, swept);
+        verify(blobRepository, never()).findOrphanedContent(anyInt());
+        verifyNoInteractions(storageService);
+    }
+}
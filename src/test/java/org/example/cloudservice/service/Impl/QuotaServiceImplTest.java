@@ -0,0 +1,105 @@
+package org.example.cloudservice.service.Impl;
+
+import org.example.cloudservice.config.QuotaProperties;
+import org.example.cloudservice.entity.UserStorageEntity;
+import org.example.cloudservice.exception.QuotaExceededException;
+import org.example.cloudservice.repository.UserStorageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuotaServiceImplTest {
+    @Mock
+    MessageSource messageSource;
+    @Mock
+    UserStorageRepository userStorageRepository;
+    @Spy
+    QuotaProperties properties = new QuotaProperties(DataSize.ofBytes(100));
+    @InjectMocks
+    QuotaServiceImpl quotaService;
+
+    @Test
+    void getAvailable_CustomQuota_SubtractsUsage() {
+        // Arrange
+        when(userStorageRepository.findById(1L)).thenReturn(Optional.of(createUsage(30, 200L)));
+
+        // Act
+        long available = quotaService.getAvailable(1L);
+
+        // Assert
+        assertEquals(170, available);
+    }
+
+    @Test
+    void getAvailable_NoUsage_ReturnsDefaultQuota() {
+        // Arrange
+        when(userStorageRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act
+        long available = quotaService.getAvailable(1L);
+
+        // Assert
+        assertEquals(100, available);
+    }
+
+    @Test
+    void checkAvailable_TooLarge_ThrowsQuotaExceededException() {
+        // Arrange
+        when(userStorageRepository.findById(1L)).thenReturn(Optional.of(createUsage(90, null)));
+
+        // Act & Assert
+        assertThrows(QuotaExceededException.class, () -> quotaService.checkAvailable(1L, 20));
+    }
+
+    @Test
+    void reserve_WithinQuota_UpdatesUsage() {
+        // Arrange
+        when(userStorageRepository.reserve(1L, 20, 1, 100)).thenReturn(1);
+
+        // Act
+        assertDoesNotThrow(() -> quotaService.reserve(1L, 20, 1));
+
+        // Assert
+        verify(userStorageRepository, never()).existsById(any());
+    }
+
+    @Test
+    void reserve_ConcurrentUsageExceedsQuota_ThrowsQuotaExceededException() {
+        // Arrange
+        when(userStorageRepository.reserve(1L, 20, 1, 100)).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(QuotaExceededException.class, () -> quotaService.reserve(1L, 20, 1));
+    }
+
+    @Test
+    void reserve_FirstFileAboveDefaultQuota_ThrowsQuotaExceededException() {
+        // Arrange
+        when(userStorageRepository.existsById(1L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(QuotaExceededException.class, () -> quotaService.reserve(1L, 200, 1));
+        verify(userStorageRepository, never()).reserve(anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    private UserStorageEntity createUsage(long usedBytes, Long quotaBytes) {
+        return UserStorageEntity.builder()
+                .userId(1L)
+                .usedBytes(usedBytes)
+                .fileCount(1)
+                .quotaBytes(quotaBytes)
+                .build();
+    }
+}
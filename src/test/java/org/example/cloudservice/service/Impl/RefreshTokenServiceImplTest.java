@@ -0,0 +1,118 @@
+package org.example.cloudservice.service.Impl;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.example.cloudservice.config.JwtTokenConfig;
+import org.example.cloudservice.entity.RefreshTokenEntity;
+import org.example.cloudservice.exception.ErrorInputDataException;
+import org.example.cloudservice.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceImplTest {
+    @Mock
+    MessageSource messageSource;
+    @Mock
+    RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    JwtTokenConfig jwtTokenConfig;
+    @InjectMocks
+    RefreshTokenServiceImpl refreshTokenService;
+
+    static final String TOKEN = "refresh";
+    static final UUID FAMILY_ID = UUID.randomUUID();
+
+    @Test
+    void issue_StoresOnlyTokenHash() {
+        // Arrange
+        when(jwtTokenConfig.getRefreshExpiration()).thenReturn(Duration.ofDays(30));
+        ArgumentCaptor<RefreshTokenEntity> captor = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+
+        // Act
+        String token = refreshTokenService.issue(1L, FAMILY_ID);
+
+        // Assert
+        verify(refreshTokenRepository).save(captor.capture());
+        assertEquals(DigestUtils.sha256Hex(token), captor.getValue().getTokenHash());
+        assertEquals(FAMILY_ID, captor.getValue().getFamilyId());
+        assertNotEquals(token, captor.getValue().getTokenHash());
+    }
+
+    @Test
+    void revokeAll_DeletesEveryFamilyOfUser() {
+        // Act
+        refreshTokenService.revokeAll(1L);
+
+        // Assert
+        verify(refreshTokenRepository, times(1)).deleteByUserId(1L);
+    }
+
+    @Test
+    void consume_ValidToken_MarksUsed() {
+        // Arrange
+        RefreshTokenEntity entity = createToken(false, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findForUpdate(DigestUtils.sha256Hex(TOKEN))).thenReturn(Optional.of(entity));
+
+        // Act
+        RefreshTokenEntity result = refreshTokenService.consume(TOKEN);
+
+        // Assert
+        assertTrue(result.isUsed());
+        verify(refreshTokenRepository, never()).deleteByFamilyId(any());
+    }
+
+    @Test
+    void consume_ReusedToken_RevokesFamily() {
+        // Arrange
+        RefreshTokenEntity entity = createToken(true, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findForUpdate(DigestUtils.sha256Hex(TOKEN))).thenReturn(Optional.of(entity));
+
+        // Act & Assert
+        assertThrows(ErrorInputDataException.class, () -> refreshTokenService.consume(TOKEN));
+        verify(refreshTokenRepository, times(1)).deleteByFamilyId(FAMILY_ID);
+    }
+
+    @Test
+    void consume_ExpiredToken_ThrowsErrorInputDataException() {
+        // Arrange
+        RefreshTokenEntity entity = createToken(false, LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findForUpdate(DigestUtils.sha256Hex(TOKEN))).thenReturn(Optional.of(entity));
+
+        // Act & Assert
+        assertThrows(ErrorInputDataException.class, () -> refreshTokenService.consume(TOKEN));
+        assertFalse(entity.isUsed());
+    }
+
+    @Test
+    void consume_UnknownToken_ThrowsErrorInputDataException() {
+        // Arrange
+        when(refreshTokenRepository.findForUpdate(DigestUtils.sha256Hex(TOKEN))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ErrorInputDataException.class, () -> refreshTokenService.consume(TOKEN));
+    }
+
+    private RefreshTokenEntity createToken(boolean used, LocalDateTime expiresAt) {
+        return RefreshTokenEntity.builder()
+                .tokenHash(DigestUtils.sha256Hex(TOKEN))
+                .userId(1L)
+                .familyId(FAMILY_ID)
+                .createdDate(LocalDateTime.now())
+                .expiresAt(expiresAt)
+                .used(used)
+                .build();
+    }
+}
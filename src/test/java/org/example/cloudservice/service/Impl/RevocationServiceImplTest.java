@@ -0,0 +1,88 @@
+package org.example.cloudservice.service.Impl;
+
+import org.example.cloudservice.entity.RevokedTokenEntity;
+import org.example.cloudservice.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevocationServiceImplTest {
+    @Mock
+    RevokedTokenRepository revokedTokenRepository;
+    @InjectMocks
+    RevocationServiceImpl revocationService;
+
+    @Test
+    void revoke_StoresTokenLocallyAndInDatabase() {
+        // Act
+        revocationService.revoke("jti", new Date(System.currentTimeMillis() + 60_000));
+
+        // Assert
+        assertTrue(revocationService.isRevoked("jti"));
+        assertFalse(revocationService.isRevoked("other"));
+        verify(revokedTokenRepository, times(1)).revoke(eq("jti"), any(LocalDateTime.class));
+    }
+
+    @Test
+    void refresh_LoadsTokensRevokedOnOtherNodes() {
+        // Arrange
+        RevokedTokenEntity token = RevokedTokenEntity.builder()
+                .jti("remote")
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .revokedDate(LocalDateTime.now())
+                .build();
+        when(revokedTokenRepository.findSnapshotXmin()).thenReturn(100L);
+        when(revokedTokenRepository.findRevokedSince(eq(0L), any(LocalDateTime.class))).thenReturn(List.of(token));
+
+        // Act
+        revocationService.refresh();
+
+        // Assert
+        assertTrue(revocationService.isRevoked("remote"));
+    }
+
+    @Test
+    void refresh_AdvancesCursorToSnapshotXminTakenBeforeRead() {
+        // Arrange
+        when(revokedTokenRepository.findSnapshotXmin()).thenReturn(100L, 120L);
+        when(revokedTokenRepository.findRevokedSince(anyLong(), any(LocalDateTime.class))).thenReturn(List.of());
+
+        // Act
+        revocationService.refresh();
+        revocationService.refresh();
+
+        // Assert
+        InOrder inOrder = inOrder(revokedTokenRepository);
+        inOrder.verify(revokedTokenRepository).findSnapshotXmin();
+        inOrder.verify(revokedTokenRepository).findRevokedSince(eq(0L), any(LocalDateTime.class));
+        inOrder.verify(revokedTokenRepository).findSnapshotXmin();
+        inOrder.verify(revokedTokenRepository).findRevokedSince(eq(100L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void evictExpired_RemovesExpiredTokens() {
+        // Arrange
+        revocationService.revoke("expired", new Date(System.currentTimeMillis() - 1_000));
+        revocationService.revoke("active", new Date(System.currentTimeMillis() + 60_000));
+
+        // Act
+        revocationService.evictExpired();
+
+        // Assert
+        assertFalse(revocationService.isRevoked("expired"));
+        assertTrue(revocationService.isRevoked("active"));
+        assertEquals(1, revocationService.size());
+    }
+}
@@ -0,0 +1,203 @@
+package org.example.cloudservice.service.Impl;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.example.cloudservice.config.UploadSessionProperties;
+import org.example.cloudservice.entity.UploadChunkEntity;
+import org.example.cloudservice.entity.UploadSessionEntity;
+import org.example.cloudservice.entity.UserEntity;
+import org.example.cloudservice.exception.ErrorInputDataException;
+import org.example.cloudservice.repository.UploadChunkRepository;
+import org.example.cloudservice.repository.UploadSessionRepository;
+import org.example.cloudservice.security.JwtTokenAuth;
+import org.example.cloudservice.service.CloudService;
+import org.example.cloudservice.service.QuotaService;
+import org.example.cloudservice.service.StorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadSessionServiceImplTest {
+    @Mock
+    MessageSource messageSource;
+    @Mock
+    UploadSessionRepository uploadSessionRepository;
+    @Mock
+    UploadChunkRepository uploadChunkRepository;
+    @Mock
+    StorageService storageService;
+    @Mock
+    CloudService cloudService;
+    @Mock
+    QuotaService quotaService;
+    @Spy
+    UploadSessionProperties properties = new UploadSessionProperties(Duration.ofHours(24), 100, 10);
+    @InjectMocks
+    UploadSessionServiceImpl uploadSessionService;
+
+    UserEntity userEntity;
+    UploadSessionEntity sessionEntity;
+    static final UUID SESSION_ID = UUID.randomUUID();
+    static final byte[] CHUNK = "chunk content".getBytes();
+
+    @BeforeEach
+    void createTestSessionEntity() {
+        userEntity = UserEntity.builder().id(1L).build();
+        JwtTokenAuth auth = new JwtTokenAuth();
+        auth.setUserId(userEntity.getId());
+        auth.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        sessionEntity = UploadSessionEntity.builder()
+                .id(SESSION_ID)
+                .fileName("test.txt")
+                .type("text/plain")
+                .size((long) CHUNK.length * 2)
+                .chunkCount(2)
+                .createdDate(LocalDateTime.now())
+                .updatedDate(LocalDateTime.now())
+                .user(userEntity)
+                .build();
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void createSession_ValidRequest_ReturnsSessionDto() {
+        // Arrange
+        when(uploadSessionRepository.save(any(UploadSessionEntity.class))).thenReturn(sessionEntity);
+
+        // Act
+        var result = uploadSessionService.createSession("test.txt", "text/plain", CHUNK.length * 2L, 2);
+
+        // Assert
+        assertEquals(SESSION_ID, result.id());
+        assertTrue(result.received().isEmpty());
+    }
+
+    @Test
+    void uploadChunk_ValidChecksum_SavesChunk() {
+        // Arrange
+        when(uploadSessionRepository.findUploadSessionEntityByIdAndUserId(SESSION_ID, 1L))
+                .thenReturn(Optional.of(sessionEntity));
+        when(storageService.create()).thenReturn(10L);
+        when(storageService.openOutputStream(10L)).thenReturn(OutputStream.nullOutputStream());
+        when(uploadChunkRepository.findUploadChunkEntityBySessionIdAndNumber(SESSION_ID, 1))
+                .thenReturn(Optional.empty());
+
+        // Act
+        assertDoesNotThrow(() -> uploadSessionService.uploadChunk(SESSION_ID, 1, DigestUtils.sha256Hex(CHUNK),
+                new ByteArrayInputStream(CHUNK)));
+
+        // Assert
+        InOrder inOrder = inOrder(storageService, uploadSessionRepository, uploadChunkRepository);
+        inOrder.verify(storageService).openOutputStream(10L);
+        inOrder.verify(uploadSessionRepository).findForUpdate(SESSION_ID);
+        inOrder.verify(uploadChunkRepository).findUploadChunkEntityBySessionIdAndNumber(SESSION_ID, 1);
+        verify(uploadChunkRepository, times(1)).save(any(UploadChunkEntity.class));
+    }
+
+    @Test
+    void uploadChunk_RetriedChunk_ReplacesAndUnlinksPreviousContent() {
+        // Arrange
+        UploadChunkEntity previous = UploadChunkEntity.builder()
+                .session(sessionEntity)
+                .number(1)
+                .contentOid(7L)
+                .size((long) CHUNK.length)
+                .checksum(DigestUtils.sha256Hex(CHUNK))
+                .build();
+        when(uploadSessionRepository.findUploadSessionEntityByIdAndUserId(SESSION_ID, 1L))
+                .thenReturn(Optional.of(sessionEntity));
+        when(storageService.create()).thenReturn(10L);
+        when(storageService.openOutputStream(10L)).thenReturn(OutputStream.nullOutputStream());
+        when(uploadChunkRepository.findUploadChunkEntityBySessionIdAndNumber(SESSION_ID, 1))
+                .thenReturn(Optional.of(previous));
+
+        // Act
+        assertDoesNotThrow(() -> uploadSessionService.uploadChunk(SESSION_ID, 1, DigestUtils.sha256Hex(CHUNK),
+                new ByteArrayInputStream(CHUNK)));
+
+        // Assert
+        verify(storageService, times(1)).delete(7L);
+        assertEquals(Long.valueOf(10L), previous.getContentOid());
+        verify(uploadChunkRepository, times(1)).save(previous);
+    }
+
+    @Test
+    void uploadChunk_InvalidChecksum_ThrowsErrorInputDataException() {
+        // Arrange
+        when(uploadSessionRepository.findUploadSessionEntityByIdAndUserId(SESSION_ID, 1L))
+                .thenReturn(Optional.of(sessionEntity));
+        when(storageService.create()).thenReturn(10L);
+        when(storageService.openOutputStream(10L)).thenReturn(OutputStream.nullOutputStream());
+
+        // Act & Assert
+        assertThrows(ErrorInputDataException.class, () -> uploadSessionService.uploadChunk(SESSION_ID, 1,
+                "invalid", new ByteArrayInputStream(CHUNK)));
+        verify(uploadChunkRepository, never()).save(any(UploadChunkEntity.class));
+    }
+
+    @Test
+    void commitSession_MissingChunk_ThrowsErrorInputDataException() {
+        // Arrange
+        when(uploadSessionRepository.findUploadSessionEntityByIdAndUserId(SESSION_ID, 1L))
+                .thenReturn(Optional.of(sessionEntity));
+        when(uploadChunkRepository.findUploadChunkEntitiesBySessionIdOrderByNumber(SESSION_ID))
+                .thenReturn(List.of(createChunk(1, 10L)));
+
+        // Act & Assert
+        assertThrows(ErrorInputDataException.class, () -> uploadSessionService.commitSession(SESSION_ID));
+        verifyNoInteractions(cloudService);
+    }
+
+    @Test
+    void commitSession_AllChunks_StoresFileAndRemovesSession() {
+        // Arrange
+        List<UploadChunkEntity> chunks = List.of(createChunk(1, 10L), createChunk(2, 11L));
+        when(uploadSessionRepository.findUploadSessionEntityByIdAndUserId(SESSION_ID, 1L))
+                .thenReturn(Optional.of(sessionEntity));
+        when(uploadChunkRepository.findUploadChunkEntitiesBySessionIdOrderByNumber(SESSION_ID)).thenReturn(chunks);
+
+        // Act
+        uploadSessionService.commitSession(SESSION_ID);
+
+        // Assert
+        verify(cloudService, times(1)).uploadFile(eq("test.txt"), eq("text/plain"), eq(CHUNK.length * 2L), any());
+        verify(storageService, times(1)).delete(10L);
+        verify(storageService, times(1)).delete(11L);
+        verify(uploadSessionRepository, times(1)).delete(sessionEntity);
+    }
+
+    private UploadChunkEntity createChunk(int number, long oid) {
+        return UploadChunkEntity.builder()
+                .number(number)
+                .contentOid(oid)
+                .size((long) CHUNK.length)
+                .checksum(DigestUtils.sha256Hex(CHUNK))
+                .session(sessionEntity)
+                .build();
+    }
+}